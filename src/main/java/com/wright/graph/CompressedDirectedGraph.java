@@ -0,0 +1,354 @@
+package com.wright.graph;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A read-only directed graph that keeps every neighbor list gap encoded in a single
+ * <code>byte[]</code>.  Each vertex is stored as its degree, the signed distance from the
+ * vertex to its first neighbor and then the gaps between consecutive sorted neighbors, all
+ * as variable length integers of 7 bits per byte.  An offset index gives random access to
+ * any vertex.
+ * <p>
+ * Neighbors that sit close to their vertex, for example after
+ * {@link DirectedGraphAdjacencyMatrix#reorder(ReorderStrategy)}, mostly take a single byte.
+ */
+public class CompressedDirectedGraph<T> implements Graph<T> {
+    private final Object[] labels;
+    private final int[] offsets;
+    private final byte[] data;
+
+    private CompressedDirectedGraph(Object[] labels, int[] offsets, byte[] data) {
+        this.labels = labels;
+        this.offsets = offsets;
+        this.data = data;
+    }
+
+    /**
+     * Compresses the current vertices and edges of any graph.  Later changes to the graph
+     * are not reflected.
+     */
+    public static <T> CompressedDirectedGraph<T> from(Graph<T> graph) {
+        int size = graph.size();
+        Builder<T> builder = new Builder<>(size);
+        for (int vertex = 0; vertex < size; vertex++) {
+            final int[] row = new int[graph.getDegree(vertex)];
+            final int[] count = new int[]{0};
+            graph.forEachNeighbor(vertex, neighbor -> row[count[0]++] = neighbor);
+            builder.addVertex(graph.getVertex(vertex), row);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return labels.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        validateVertex(vertex);
+        return (T) labels[vertex];
+    }
+
+    /**
+     * @return the number of bytes used by the encoded neighbor lists
+     */
+    public int getEncodedSize() {
+        return data.length;
+    }
+
+    @Override
+    public void addVertex(T data) {
+        throw new IllegalStateException("Compressed graph is read-only");
+    }
+
+    @Override
+    public void addEdge(int sourceVertex, int targetVertex) {
+        throw new IllegalStateException("Compressed graph is read-only");
+    }
+
+    /**
+     * Decodes the neighbors of the source until it passes the target.
+     */
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        validateVertex(sourceVertex);
+        validateVertex(targetVertex);
+        int position = offsets[sourceVertex];
+        int remaining = readVarInt(position);
+        position = skipVarInt(position);
+        int previous = sourceVertex;
+        boolean first = true;
+
+        while (remaining-- > 0) {
+            int value = readVarInt(position);
+            position = skipVarInt(position);
+            previous = first ? sourceVertex + decodeSigned(value) : previous + value + 1;
+            first = false;
+            if (previous >= targetVertex) {
+                return previous == targetVertex;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        validateVertex(vertex);
+        return readVarInt(offsets[vertex]);
+    }
+
+    /**
+     * Decodes the neighbors of a vertex.
+     *
+     * @return the neighbor indexes in ascending order
+     */
+    public int[] getNeighbors(int vertex) {
+        final int[] neighbors = new int[getDegree(vertex)];
+        forEachNeighbor(vertex, new IntConsumer() {
+            private int count = 0;
+
+            @Override
+            public void accept(int neighbor) {
+                neighbors[count++] = neighbor;
+            }
+        });
+        return neighbors;
+    }
+
+    public Set<Integer> getNeighborsForVertex(int vertex) {
+        Set<Integer> neighbors = new HashSet<>();
+        forEachNeighbor(vertex, neighbors::add);
+        return neighbors;
+    }
+
+    /**
+     * Decodes the neighbors of a vertex straight into the consumer, in ascending order,
+     * without allocating.
+     */
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        validateVertex(vertex);
+        int position = offsets[vertex];
+        int remaining = readVarInt(position);
+        position = skipVarInt(position);
+        int previous = vertex;
+        boolean first = true;
+
+        while (remaining-- > 0) {
+            int value = readVarInt(position);
+            position = skipVarInt(position);
+            previous = first ? vertex + decodeSigned(value) : previous + value + 1;
+            first = false;
+            consumer.accept(previous);
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        validateVertex(vertex);
+        int position = offsets[vertex];
+        int remaining = readVarInt(position);
+        position = skipVarInt(position);
+        int previous = vertex;
+        boolean first = true;
+
+        while (remaining-- > 0) {
+            int value = readVarInt(position);
+            position = skipVarInt(position);
+            previous = first ? vertex + decodeSigned(value) : previous + value + 1;
+            first = false;
+            if (!consumer.test(previous)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Depth first traversal in the same order as {@link DirectedGraphAdjacencyMatrix#dfs}.
+     * The neighbor lists are decoded incrementally from an explicit stack, so deep graphs
+     * do not overflow the call stack.
+     */
+    @SuppressWarnings("unchecked")
+    public void dfs(int startVertex, Consumer<T> consumer) {
+        validateVertex(startVertex);
+        int size = size();
+        boolean[] marked = new boolean[size];
+        int[] stackVertex = new int[size];
+        int[] stackPosition = new int[size];
+        int[] stackRemaining = new int[size];
+        int[] stackPrevious = new int[size];
+        int depth = 0;
+
+        consumer.accept((T) labels[startVertex]);
+        marked[startVertex] = true;
+        stackVertex[0] = startVertex;
+        stackRemaining[0] = readVarInt(offsets[startVertex]);
+        stackPosition[0] = skipVarInt(offsets[startVertex]);
+        stackPrevious[0] = -1;
+
+        while (depth >= 0) {
+            if (stackRemaining[depth] == 0) {
+                depth--;
+                continue;
+            }
+
+            int vertex = stackVertex[depth];
+            int value = readVarInt(stackPosition[depth]);
+            stackPosition[depth] = skipVarInt(stackPosition[depth]);
+            stackRemaining[depth]--;
+            int neighbor = stackPrevious[depth] < 0
+                    ? vertex + decodeSigned(value)
+                    : stackPrevious[depth] + value + 1;
+            stackPrevious[depth] = neighbor;
+
+            if (!marked[neighbor]) {
+                consumer.accept((T) labels[neighbor]);
+                marked[neighbor] = true;
+                depth++;
+                stackVertex[depth] = neighbor;
+                stackRemaining[depth] = readVarInt(offsets[neighbor]);
+                stackPosition[depth] = skipVarInt(offsets[neighbor]);
+                stackPrevious[depth] = -1;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void bfs(int startVertex, final Consumer<T> consumer) {
+        validateVertex(startVertex);
+        final boolean[] marked = new boolean[size()];
+        final int[] queue = new int[size()];
+        final int[] tail = new int[]{0};
+        int head = 0;
+
+        consumer.accept((T) labels[startVertex]);
+        marked[startVertex] = true;
+        queue[tail[0]++] = startVertex;
+
+        IntConsumer visitor = neighbor -> {
+            if (!marked[neighbor]) {
+                marked[neighbor] = true;
+                queue[tail[0]++] = neighbor;
+                consumer.accept((T) labels[neighbor]);
+            }
+        };
+        while (head < tail[0]) {
+            forEachNeighbor(queue[head++], visitor);
+        }
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= labels.length) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    private int readVarInt(int position) {
+        int value = 0;
+        int shift = 0;
+        byte next;
+        do {
+            next = data[position++];
+            value |= (next & 0x7F) << shift;
+            shift += 7;
+        } while (next < 0);
+        return value;
+    }
+
+    private int skipVarInt(int position) {
+        while (data[position++] < 0) {
+            // continuation bit set, keep reading
+        }
+        return position;
+    }
+
+    private static int encodeSigned(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int decodeSigned(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Builds a {@link CompressedDirectedGraph} one vertex at a time, so large graphs can be
+     * encoded without ever holding an uncompressed copy.  Neighbors may refer to vertices
+     * that have not been added yet, as long as they exist by the time {@link #build()} is called.
+     */
+    public static final class Builder<T> {
+        private final List<Object> labels;
+        private int[] offsets;
+        private byte[] data;
+        private int length = 0;
+        private int maxNeighbor = -1;
+
+        public Builder(int expectedVertices) {
+            labels = new ArrayList<>(expectedVertices);
+            offsets = new int[expectedVertices + 1];
+            data = new byte[Math.max(16, expectedVertices * 2)];
+        }
+
+        /**
+         * Adds the next vertex with its out-neighbors, which are sorted and de-duplicated.
+         *
+         * @return the index of the new vertex
+         */
+        public int addVertex(T label, int... neighbors) {
+            int vertex = labels.size();
+            int[] sorted = neighbors.clone();
+            Arrays.sort(sorted);
+            if (sorted.length > 0 && sorted[0] < 0) {
+                throw new IllegalArgumentException("Neighbor indexes must not be negative");
+            }
+
+            int distinct = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
+            }
+
+            if (vertex + 1 >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2 + 1);
+            }
+            offsets[vertex] = length;
+            writeVarInt(distinct);
+            for (int i = 0; i < distinct; i++) {
+                writeVarInt(i == 0 ? encodeSigned(sorted[0] - vertex) : sorted[i] - sorted[i - 1] - 1);
+            }
+            if (distinct > 0) {
+                maxNeighbor = Math.max(maxNeighbor, sorted[distinct - 1]);
+            }
+
+            labels.add(label);
+            return vertex;
+        }
+
+        public CompressedDirectedGraph<T> build() {
+            int size = labels.size();
+            if (maxNeighbor >= size) {
+                throw new IllegalArgumentException("Neighbor " + maxNeighbor + " was never added");
+            }
+            offsets[size] = length;
+            return new CompressedDirectedGraph<>(labels.toArray(), Arrays.copyOf(offsets, size + 1),
+                    Arrays.copyOf(data, length));
+        }
+
+        private void writeVarInt(int value) {
+            if (length + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.wright.graph;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Contraction hierarchy built from a {@link WeightedGraph}.  Vertices
+ * are ranked by importance and contracted from least to most important, adding a shortcut
+ * edge wherever removing a vertex would lengthen a shortest path.  A query then only
+ * searches upwards in rank from both ends, which touches a tiny part of the graph.
+ * <p>
+ * Once built the hierarchy no longer depends on the source graph and can be written out
+ * with Java serialization, so preprocessing only has to run once.  Weights must not be negative.
+ */
+public class ContractionHierarchy implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int INFINITY = Integer.MAX_VALUE;
+
+    private static final int NO_MIDDLE = -1;
+    private static final int MAX_WITNESS_SETTLED = 500;
+
+    private final int[] ranks;
+
+    // Edges to higher ranked vertices, stored at their source.
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upMiddles;
+
+    // Edges from higher ranked vertices, stored at their target.
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final int[] downWeights;
+    private final int[] downMiddles;
+
+    private ContractionHierarchy(int[] ranks, Edges up, Edges down) {
+        this.ranks = ranks;
+        this.upOffsets = up.offsets;
+        this.upTargets = up.vertices;
+        this.upWeights = up.weights;
+        this.upMiddles = up.middles;
+        this.downOffsets = down.offsets;
+        this.downSources = down.vertices;
+        this.downWeights = down.weights;
+        this.downMiddles = down.middles;
+    }
+
+    /**
+     * Ranks and contracts every vertex of the graph.  The initial importance of the
+     * vertices is computed in parallel.
+     */
+    public static ContractionHierarchy preprocess(WeightedGraph<?> graph) {
+        return new Contraction(graph).run();
+    }
+
+    public int size() {
+        return ranks.length;
+    }
+
+    /**
+     * @return the contraction order of the vertex, lower ranks were contracted first
+     */
+    public int getRank(int vertex) {
+        validateVertex(vertex);
+        return ranks[vertex];
+    }
+
+    /**
+     * @return the number of shortcut edges added during preprocessing
+     */
+    public int getShortcutCount() {
+        int count = 0;
+        for (int middle : upMiddles) {
+            count += middle == NO_MIDDLE ? 0 : 1;
+        }
+        for (int middle : downMiddles) {
+            count += middle == NO_MIDDLE ? 0 : 1;
+        }
+        return count;
+    }
+
+    /**
+     * @return the length of the shortest path, or {@link #INFINITY} if the target cannot be reached
+     */
+    public int getDistance(int sourceVertex, int targetVertex) {
+        return new Query(sourceVertex, targetVertex).distance;
+    }
+
+    /**
+     * Finds the shortest path with all shortcuts unpacked into the original edges.
+     *
+     * @return the path in the same order as
+     * {@link DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper#getShortestPathToTarget(int)},
+     * starting with the target and ending with the source, or an empty list if the
+     * target cannot be reached
+     */
+    public List<Integer> shortestPath(int sourceVertex, int targetVertex) {
+        Query query = new Query(sourceVertex, targetVertex);
+        if (query.distance == INFINITY) {
+            return new ArrayList<>();
+        }
+
+        Deque<Integer> forwardEdges = new ArrayDeque<>();
+        for (int vertex = query.meeting; vertex != sourceVertex; ) {
+            int edge = query.forwardParents.get(vertex);
+            forwardEdges.push(edge);
+            vertex = sourceOfUpEdge(edge);
+        }
+
+        List<Integer> path = new ArrayList<>();
+        path.add(sourceVertex);
+        for (int edge : forwardEdges) {
+            unpack(sourceOfUpEdge(edge), upTargets[edge], upMiddles[edge], path);
+        }
+        for (int vertex = query.meeting; vertex != targetVertex; ) {
+            int edge = query.backwardParents.get(vertex);
+            int target = targetOfDownEdge(edge);
+            unpack(vertex, target, downMiddles[edge], path);
+            vertex = target;
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Appends the original vertices of the edge, excluding its source, to the path.
+     */
+    private void unpack(int source, int target, int middle, List<Integer> path) {
+        if (middle == NO_MIDDLE) {
+            path.add(target);
+            return;
+        }
+        // Both halves were edges of the middle vertex when it was contracted, so they are
+        // stored at the middle vertex, which ranks below the source and the target.
+        for (int edge = downOffsets[middle]; edge < downOffsets[middle + 1]; edge++) {
+            if (downSources[edge] == source) {
+                unpack(source, middle, downMiddles[edge], path);
+                break;
+            }
+        }
+        for (int edge = upOffsets[middle]; edge < upOffsets[middle + 1]; edge++) {
+            if (upTargets[edge] == target) {
+                unpack(middle, target, upMiddles[edge], path);
+                break;
+            }
+        }
+    }
+
+    private int sourceOfUpEdge(int edge) {
+        return findOwner(upOffsets, edge);
+    }
+
+    private int targetOfDownEdge(int edge) {
+        return findOwner(downOffsets, edge);
+    }
+
+    private static int findOwner(int[] offsets, int edge) {
+        int low = 0;
+        int high = offsets.length - 2;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (offsets[middle] <= edge) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= ranks.length) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    /**
+     * Bidirectional upward Dijkstra.  The forward search follows edges to higher ranked
+     * vertices from the source, the backward search follows edges from higher ranked
+     * vertices into the target, and the shortest path meets at its highest ranked vertex.
+     */
+    private final class Query {
+        private final Map<Integer, Integer> forwardParents = new HashMap<>();
+        private final Map<Integer, Integer> backwardParents = new HashMap<>();
+        private int distance = INFINITY;
+        private int meeting = -1;
+
+        private Query(int sourceVertex, int targetVertex) {
+            validateVertex(sourceVertex);
+            validateVertex(targetVertex);
+
+            Map<Integer, Integer> forwardDistances = new HashMap<>();
+            Map<Integer, Integer> backwardDistances = new HashMap<>();
+            PriorityQueue<long[]> forwardQueue = new PriorityQueue<>(Comparator.comparingLong((long[] entry) -> entry[0]));
+            PriorityQueue<long[]> backwardQueue = new PriorityQueue<>(Comparator.comparingLong((long[] entry) -> entry[0]));
+
+            forwardDistances.put(sourceVertex, 0);
+            backwardDistances.put(targetVertex, 0);
+            forwardQueue.add(new long[]{0, sourceVertex});
+            backwardQueue.add(new long[]{0, targetVertex});
+
+            while (!forwardQueue.isEmpty() || !backwardQueue.isEmpty()) {
+                if (!forwardQueue.isEmpty() && forwardQueue.peek()[0] >= distance) {
+                    forwardQueue.clear();
+                }
+                if (!backwardQueue.isEmpty() && backwardQueue.peek()[0] >= distance) {
+                    backwardQueue.clear();
+                }
+                if (!forwardQueue.isEmpty()) {
+                    settle(forwardQueue.poll(), forwardDistances, backwardDistances, forwardQueue,
+                            forwardParents, upOffsets, upTargets, upWeights);
+                }
+                if (!backwardQueue.isEmpty()) {
+                    settle(backwardQueue.poll(), backwardDistances, forwardDistances, backwardQueue,
+                            backwardParents, downOffsets, downSources, downWeights);
+                }
+            }
+        }
+
+        private void settle(long[] entry, Map<Integer, Integer> distances, Map<Integer, Integer> otherDistances,
+                            PriorityQueue<long[]> queue, Map<Integer, Integer> parents,
+                            int[] offsets, int[] neighbors, int[] weights) {
+            int vertex = (int) entry[1];
+            int vertexDistance = distances.get(vertex);
+            if (entry[0] > vertexDistance) {
+                return;
+            }
+
+            Integer otherDistance = otherDistances.get(vertex);
+            if (otherDistance != null && (long) vertexDistance + otherDistance < distance) {
+                distance = vertexDistance + otherDistance;
+                meeting = vertex;
+            }
+
+            for (int edge = offsets[vertex]; edge < offsets[vertex + 1]; edge++) {
+                int neighbor = neighbors[edge];
+                long sum = (long) vertexDistance + weights[edge];
+                Integer current = distances.get(neighbor);
+                if (sum < INFINITY && (current == null || sum < current)) {
+                    distances.put(neighbor, (int) sum);
+                    parents.put(neighbor, edge);
+                    queue.add(new long[]{sum, neighbor});
+                }
+            }
+        }
+    }
+
+    /**
+     * Edges in compressed row form, where the edges of vertex <code>v</code> run from
+     * <code>offsets[v]</code> up to <code>offsets[v + 1]</code>.
+     */
+    private static final class Edges {
+        private final int[] offsets;
+        private final int[] vertices;
+        private final int[] weights;
+        private final int[] middles;
+
+        private Edges(List<List<int[]>> edgesByVertex) {
+            offsets = new int[edgesByVertex.size() + 1];
+            for (int vertex = 0; vertex < edgesByVertex.size(); vertex++) {
+                offsets[vertex + 1] = offsets[vertex] + edgesByVertex.get(vertex).size();
+            }
+            int count = offsets[edgesByVertex.size()];
+            vertices = new int[count];
+            weights = new int[count];
+            middles = new int[count];
+
+            int index = 0;
+            for (List<int[]> edges : edgesByVertex) {
+                for (int[] edge : edges) {
+                    vertices[index] = edge[0];
+                    weights[index] = edge[1];
+                    middles[index] = edge[2];
+                    index++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mutable state used while contracting.  Each remaining edge maps its far end to
+     * <code>{weight, middle}</code>.
+     */
+    private static final class Contraction {
+        private final int size;
+        private final List<Map<Integer, int[]>> outEdges = new ArrayList<>();
+        private final List<Map<Integer, int[]>> inEdges = new ArrayList<>();
+        private final boolean[] contracted;
+        private final int[] contractedNeighbors;
+        private final int[] ranks;
+        private final List<List<int[]>> up = new ArrayList<>();
+        private final List<List<int[]>> down = new ArrayList<>();
+
+        private Contraction(WeightedGraph<?> graph) {
+            size = graph.size();
+            contracted = new boolean[size];
+            contractedNeighbors = new int[size];
+            ranks = new int[size];
+            for (int vertex = 0; vertex < size; vertex++) {
+                outEdges.add(new HashMap<>());
+                inEdges.add(new HashMap<>());
+                up.add(new ArrayList<>());
+                down.add(new ArrayList<>());
+            }
+
+            for (int vertex = 0; vertex < size; vertex++) {
+                final int source = vertex;
+                graph.forEachEdge(source, (target, weight) -> {
+                    if (weight < 0) {
+                        throw new IllegalArgumentException("Weights must not be negative");
+                    }
+                    if (source != target) {
+                        outEdges.get(source).put(target, new int[]{weight, NO_MIDDLE});
+                        inEdges.get(target).put(source, new int[]{weight, NO_MIDDLE});
+                    }
+                });
+            }
+        }
+
+        private ContractionHierarchy run() {
+            final int[] priorities = new int[size];
+            IntStream.range(0, size).parallel().forEach(vertex -> priorities[vertex] = priority(vertex));
+
+            PriorityQueue<int[]> queue = new PriorityQueue<>(
+                    Comparator.comparingInt((int[] entry) -> entry[0]).thenComparingInt(entry -> entry[1]));
+            for (int vertex = 0; vertex < size; vertex++) {
+                queue.add(new int[]{priorities[vertex], vertex});
+            }
+
+            int rank = 0;
+            while (!queue.isEmpty()) {
+                int vertex = queue.poll()[1];
+                // Lazy update: importance changes as neighbors are contracted, so re-check
+                // the vertex before contracting it.
+                int priority = priority(vertex);
+                if (!queue.isEmpty() && priority > queue.peek()[0]) {
+                    queue.add(new int[]{priority, vertex});
+                    continue;
+                }
+                contract(vertex);
+                ranks[vertex] = rank++;
+            }
+            return new ContractionHierarchy(ranks, new Edges(up), new Edges(down));
+        }
+
+        /**
+         * Edge difference plus the number of already contracted neighbors, which spreads
+         * contraction evenly over the graph.
+         */
+        private int priority(int vertex) {
+            int shortcuts = findShortcuts(vertex).size();
+            return shortcuts - outEdges.get(vertex).size() - inEdges.get(vertex).size() + contractedNeighbors[vertex];
+        }
+
+        private void contract(int vertex) {
+            List<int[]> shortcuts = findShortcuts(vertex);
+
+            for (Map.Entry<Integer, int[]> edge : outEdges.get(vertex).entrySet()) {
+                int target = edge.getKey();
+                up.get(vertex).add(new int[]{target, edge.getValue()[0], edge.getValue()[1]});
+                inEdges.get(target).remove(vertex);
+                contractedNeighbors[target]++;
+            }
+            for (Map.Entry<Integer, int[]> edge : inEdges.get(vertex).entrySet()) {
+                int source = edge.getKey();
+                down.get(vertex).add(new int[]{source, edge.getValue()[0], edge.getValue()[1]});
+                outEdges.get(source).remove(vertex);
+                contractedNeighbors[source]++;
+            }
+            outEdges.get(vertex).clear();
+            inEdges.get(vertex).clear();
+            contracted[vertex] = true;
+
+            for (int[] shortcut : shortcuts) {
+                int[] edge = new int[]{shortcut[2], vertex};
+                outEdges.get(shortcut[0]).put(shortcut[1], edge);
+                inEdges.get(shortcut[1]).put(shortcut[0], edge.clone());
+            }
+        }
+
+        /**
+         * Finds the shortcuts <code>{source, target, weight}</code> needed to contract the
+         * vertex.  A shortcut is skipped when a witness path that avoids the vertex is no longer.
+         */
+        private List<int[]> findShortcuts(int vertex) {
+            List<int[]> shortcuts = new ArrayList<>();
+            Map<Integer, int[]> outgoing = outEdges.get(vertex);
+            if (outgoing.isEmpty()) {
+                return shortcuts;
+            }
+
+            for (Map.Entry<Integer, int[]> incoming : inEdges.get(vertex).entrySet()) {
+                int source = incoming.getKey();
+                int inWeight = incoming.getValue()[0];
+
+                long limit = 0;
+                for (Map.Entry<Integer, int[]> out : outgoing.entrySet()) {
+                    if (out.getKey() != source) {
+                        limit = Math.max(limit, (long) inWeight + out.getValue()[0]);
+                    }
+                }
+                Map<Integer, Long> witnesses = witnessSearch(source, vertex, limit);
+                for (Map.Entry<Integer, int[]> out : outgoing.entrySet()) {
+                    int target = out.getKey();
+                    if (target == source) {
+                        continue;
+                    }
+                    long via = (long) inWeight + out.getValue()[0];
+                    Long witness = witnesses.get(target);
+                    if ((witness == null || witness > via) && via < INFINITY) {
+                        shortcuts.add(new int[]{source, target, (int) via});
+                    }
+                }
+            }
+            return shortcuts;
+        }
+
+        /**
+         * Dijkstra from the source that never passes through the excluded vertex, bounded by
+         * distance and by the number of settled vertices.  Stopping early only costs an
+         * unnecessary shortcut, never a wrong answer.
+         */
+        private Map<Integer, Long> witnessSearch(int source, int excluded, long limit) {
+            Map<Integer, Long> distances = new HashMap<>();
+            PriorityQueue<long[]> queue = new PriorityQueue<>(Comparator.comparingLong((long[] entry) -> entry[0]));
+            distances.put(source, 0L);
+            queue.add(new long[]{0, source});
+
+            int settled = 0;
+            while (!queue.isEmpty() && settled < MAX_WITNESS_SETTLED) {
+                long[] entry = queue.poll();
+                int vertex = (int) entry[1];
+                if (entry[0] > distances.get(vertex)) {
+                    continue;
+                }
+                if (entry[0] > limit) {
+                    break;
+                }
+                settled++;
+
+                for (Map.Entry<Integer, int[]> edge : outEdges.get(vertex).entrySet()) {
+                    int neighbor = edge.getKey();
+                    if (neighbor == excluded) {
+                        continue;
+                    }
+                    long sum = entry[0] + edge.getValue()[0];
+                    Long current = distances.get(neighbor);
+                    if (current == null || sum < current) {
+                        distances.put(neighbor, sum);
+                        queue.add(new long[]{sum, neighbor});
+                    }
+                }
+            }
+            return distances;
+        }
+    }
+}
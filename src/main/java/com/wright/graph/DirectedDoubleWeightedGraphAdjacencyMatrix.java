@@ -0,0 +1,152 @@
+package com.wright.graph;
+
+import java.util.*;
+
+/**
+ * A {@link DirectedWeightedGraphAdjacencyMatrix} specialized for <code>double</code> weights.
+ * Weights are stored as <code>double</code> for fractional costs.  {@link Double#POSITIVE_INFINITY}
+ * marks a missing edge.  Weights must not be negative.
+ */
+public class DirectedDoubleWeightedGraphAdjacencyMatrix<T> {
+    private static final double NO_EDGE = Double.POSITIVE_INFINITY;
+    private static final double INFINITY = NO_EDGE;
+
+    private final int maxGraphCapacity;
+    private final double[][] edges;
+    private final Object[] vertexLabels;
+
+    private int graphSize = 0;
+
+    public DirectedDoubleWeightedGraphAdjacencyMatrix(int maxGraphCapacity) {
+        this.maxGraphCapacity = maxGraphCapacity;
+        this.edges = new double[maxGraphCapacity][maxGraphCapacity];
+        this.vertexLabels = new Object[maxGraphCapacity];
+
+        for (double[] row : edges) {
+            Arrays.fill(row, NO_EDGE);
+        }
+    }
+
+    public void addVertex(T data) {
+        if (graphSize >= maxGraphCapacity) {
+            throw new IllegalArgumentException("Graph is full");
+        }
+        vertexLabels[graphSize++] = data;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        if (vertex >= graphSize) {
+            throw new IllegalArgumentException("Invalid vertex - must not be greater than graph size");
+        }
+        return (T) vertexLabels[vertex];
+    }
+
+    public void addEdge(int sourceVertex, int targetVertex, double weight) {
+        validateEdge(sourceVertex, targetVertex);
+        if (weight == NO_EDGE) {
+            throw new IllegalArgumentException("Weight is reserved to mark a missing edge");
+        }
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Weights must not be negative");
+        }
+        edges[sourceVertex][targetVertex] = weight;
+    }
+
+    public Set<Integer> getNeighbors(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        Set<Integer> neighbors = new HashSet<>();
+        for (int i = 0; i < graphSize; i++) {
+            if (edges[sourceVertex][i] != NO_EDGE) {
+                neighbors.add(i);
+            }
+        }
+        return neighbors;
+    }
+
+    public double getWeightForEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return edges[sourceVertex][targetVertex];
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex >= graphSize || targetVertex >= graphSize) {
+            throw new IllegalArgumentException("Source and target must be within the size of the graph");
+        }
+    }
+
+    public ShortestPathHelper calculateAllShortestPaths(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        boolean[] settled = new boolean[graphSize];
+        double[] distances = new double[graphSize];
+        int[] predecessors = new int[graphSize];
+
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, Integer.MAX_VALUE);
+
+        distances[sourceVertex] = 0;
+        predecessors[sourceVertex] = 0;
+
+        for (int i = 0; i < graphSize; i++) {
+            int next = -1;
+            double smallest = INFINITY;
+            for (int vertex = 0; vertex < graphSize; vertex++) {
+                if (!settled[vertex] && distances[vertex] < smallest) {
+                    smallest = distances[vertex];
+                    next = vertex;
+                }
+            }
+            if (next == -1) {
+                break;
+            }
+            settled[next] = true;
+
+            double[] row = edges[next];
+            for (int neighbor = 0; neighbor < graphSize; neighbor++) {
+                if (row[neighbor] != NO_EDGE && !settled[neighbor]) {
+                    double sum = distances[next] + row[neighbor];
+                    if (sum < distances[neighbor]) {
+                        predecessors[neighbor] = next;
+                        distances[neighbor] = sum;
+                    }
+                }
+            }
+        }
+
+        return new ShortestPathHelper(sourceVertex, distances, predecessors);
+    }
+
+    public int getGraphSize() {
+        return graphSize;
+    }
+
+    public static final class ShortestPathHelper {
+        private final int source;
+        private final double[] distances;
+        private final int[] predecessors;
+
+        private ShortestPathHelper(int source, double[] distances, int[] predecessors) {
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        public double[] getDistances() {
+            return Arrays.copyOf(distances, distances.length);
+        }
+
+        public int[] getPredecessors() {
+            return Arrays.copyOf(predecessors, predecessors.length);
+        }
+
+        public List<Integer> getShortestPathToTarget(int targetVertex) {
+            if (targetVertex >= distances.length) {
+                throw new IllegalArgumentException("targetVertex must be less than the size of the graph");
+            }
+            return DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper.walkPredecessors(
+                    source, predecessors, targetVertex);
+        }
+    }
+}
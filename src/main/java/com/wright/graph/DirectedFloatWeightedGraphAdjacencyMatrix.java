@@ -0,0 +1,152 @@
+package com.wright.graph;
+
+import java.util.*;
+
+/**
+ * A {@link DirectedWeightedGraphAdjacencyMatrix} specialized for <code>float</code> weights.
+ * Weights are stored as <code>float</code> for fractional costs.  {@link Float#POSITIVE_INFINITY}
+ * marks a missing edge.  Weights must not be negative.
+ */
+public class DirectedFloatWeightedGraphAdjacencyMatrix<T> {
+    private static final float NO_EDGE = Float.POSITIVE_INFINITY;
+    private static final float INFINITY = NO_EDGE;
+
+    private final int maxGraphCapacity;
+    private final float[][] edges;
+    private final Object[] vertexLabels;
+
+    private int graphSize = 0;
+
+    public DirectedFloatWeightedGraphAdjacencyMatrix(int maxGraphCapacity) {
+        this.maxGraphCapacity = maxGraphCapacity;
+        this.edges = new float[maxGraphCapacity][maxGraphCapacity];
+        this.vertexLabels = new Object[maxGraphCapacity];
+
+        for (float[] row : edges) {
+            Arrays.fill(row, NO_EDGE);
+        }
+    }
+
+    public void addVertex(T data) {
+        if (graphSize >= maxGraphCapacity) {
+            throw new IllegalArgumentException("Graph is full");
+        }
+        vertexLabels[graphSize++] = data;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        if (vertex >= graphSize) {
+            throw new IllegalArgumentException("Invalid vertex - must not be greater than graph size");
+        }
+        return (T) vertexLabels[vertex];
+    }
+
+    public void addEdge(int sourceVertex, int targetVertex, float weight) {
+        validateEdge(sourceVertex, targetVertex);
+        if (weight == NO_EDGE) {
+            throw new IllegalArgumentException("Weight is reserved to mark a missing edge");
+        }
+        if (weight < 0 || Float.isNaN(weight)) {
+            throw new IllegalArgumentException("Weights must not be negative");
+        }
+        edges[sourceVertex][targetVertex] = weight;
+    }
+
+    public Set<Integer> getNeighbors(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        Set<Integer> neighbors = new HashSet<>();
+        for (int i = 0; i < graphSize; i++) {
+            if (edges[sourceVertex][i] != NO_EDGE) {
+                neighbors.add(i);
+            }
+        }
+        return neighbors;
+    }
+
+    public float getWeightForEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return edges[sourceVertex][targetVertex];
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex >= graphSize || targetVertex >= graphSize) {
+            throw new IllegalArgumentException("Source and target must be within the size of the graph");
+        }
+    }
+
+    public ShortestPathHelper calculateAllShortestPaths(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        boolean[] settled = new boolean[graphSize];
+        float[] distances = new float[graphSize];
+        int[] predecessors = new int[graphSize];
+
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, Integer.MAX_VALUE);
+
+        distances[sourceVertex] = 0;
+        predecessors[sourceVertex] = 0;
+
+        for (int i = 0; i < graphSize; i++) {
+            int next = -1;
+            float smallest = INFINITY;
+            for (int vertex = 0; vertex < graphSize; vertex++) {
+                if (!settled[vertex] && distances[vertex] < smallest) {
+                    smallest = distances[vertex];
+                    next = vertex;
+                }
+            }
+            if (next == -1) {
+                break;
+            }
+            settled[next] = true;
+
+            float[] row = edges[next];
+            for (int neighbor = 0; neighbor < graphSize; neighbor++) {
+                if (row[neighbor] != NO_EDGE && !settled[neighbor]) {
+                    float sum = distances[next] + row[neighbor];
+                    if (sum < distances[neighbor]) {
+                        predecessors[neighbor] = next;
+                        distances[neighbor] = sum;
+                    }
+                }
+            }
+        }
+
+        return new ShortestPathHelper(sourceVertex, distances, predecessors);
+    }
+
+    public int getGraphSize() {
+        return graphSize;
+    }
+
+    public static final class ShortestPathHelper {
+        private final int source;
+        private final float[] distances;
+        private final int[] predecessors;
+
+        private ShortestPathHelper(int source, float[] distances, int[] predecessors) {
+            this.source = source;
+            this.distances = distances;
+            this.predecessors = predecessors;
+        }
+
+        public float[] getDistances() {
+            return Arrays.copyOf(distances, distances.length);
+        }
+
+        public int[] getPredecessors() {
+            return Arrays.copyOf(predecessors, predecessors.length);
+        }
+
+        public List<Integer> getShortestPathToTarget(int targetVertex) {
+            if (targetVertex >= distances.length) {
+                throw new IllegalArgumentException("targetVertex must be less than the size of the graph");
+            }
+            return DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper.walkPredecessors(
+                    source, predecessors, targetVertex);
+        }
+    }
+}
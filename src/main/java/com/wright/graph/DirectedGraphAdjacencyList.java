@@ -0,0 +1,123 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A directed graph that keeps a sorted <code>int[]</code> of targets per vertex, so memory
+ * grows with the number of edges rather than the square of the number of vertices.  Both
+ * the vertex table and each neighbor row grow on demand.  Edge lookups are a binary search.
+ */
+public class DirectedGraphAdjacencyList<T> implements Graph<T> {
+    private static final int[] NO_NEIGHBORS = new int[0];
+
+    private Object[] labels;
+    private int[][] neighbors;
+    private int[] degrees;
+    private int size = 0;
+
+    public DirectedGraphAdjacencyList() {
+        this(16);
+    }
+
+    public DirectedGraphAdjacencyList(int expectedVertices) {
+        int capacity = Math.max(1, expectedVertices);
+        labels = new Object[capacity];
+        neighbors = new int[capacity][];
+        degrees = new int[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        validateVertex(vertex);
+        return (T) labels[vertex];
+    }
+
+    @Override
+    public void addVertex(T data) {
+        if (size == labels.length) {
+            int capacity = size * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            neighbors = Arrays.copyOf(neighbors, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+        }
+        labels[size] = data;
+        neighbors[size] = NO_NEIGHBORS;
+        size++;
+    }
+
+    /**
+     * Adds an edge, keeping the row sorted.  Adding an edge that already exists has no effect.
+     */
+    @Override
+    public void addEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        int degree = degrees[sourceVertex];
+        int[] row = neighbors[sourceVertex];
+        int index = Arrays.binarySearch(row, 0, degree, targetVertex);
+        if (index >= 0) {
+            return;
+        }
+
+        index = -index - 1;
+        if (degree == row.length) {
+            row = Arrays.copyOf(row, Math.max(4, degree * 2));
+            neighbors[sourceVertex] = row;
+        }
+        System.arraycopy(row, index, row, index + 1, degree - index);
+        row[index] = targetVertex;
+        degrees[sourceVertex] = degree + 1;
+    }
+
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return Arrays.binarySearch(neighbors[sourceVertex], 0, degrees[sourceVertex], targetVertex) >= 0;
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        validateVertex(vertex);
+        return degrees[vertex];
+    }
+
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        validateVertex(vertex);
+        int[] row = neighbors[vertex];
+        for (int i = 0; i < degrees[vertex]; i++) {
+            consumer.accept(row[i]);
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        validateVertex(vertex);
+        int[] row = neighbors[vertex];
+        for (int i = 0; i < degrees[vertex]; i++) {
+            if (!consumer.test(row[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= size) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex < 0 || sourceVertex >= size || targetVertex < 0 || targetVertex >= size) {
+            throw new IllegalArgumentException("Invalid edge index");
+        }
+    }
+}
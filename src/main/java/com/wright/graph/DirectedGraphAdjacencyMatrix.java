@@ -2,21 +2,44 @@ package com.wright.graph;
 
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
-public class DirectedGraphAdjacencyMatrix<T> {
+public class DirectedGraphAdjacencyMatrix<T> implements Graph<T> {
     private final int max;
     private final Object[] labels;
     private final boolean[][] edges;
+    private final boolean readOnly;
     private int size = 0;
 
     public DirectedGraphAdjacencyMatrix(int max) {
         this.max = max;
         labels = new Object[max];
         edges = new boolean[max][max];
+        readOnly = false;
     }
 
+    /**
+     * Creates a read-only view over existing storage.  Used by {@link VersionedDirectedGraph}
+     * to hand out immutable versions without copying.
+     */
+    DirectedGraphAdjacencyMatrix(Object[] labels, boolean[][] edges, int size) {
+        this.max = edges.length;
+        this.labels = labels;
+        this.edges = edges;
+        this.size = size;
+        this.readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Graph version is read-only");
+        }
+    }
+
+    @Override
     public void addVertex(T data) {
+        checkWritable();
         if (size == max) {
             throw new IllegalArgumentException("Graph is full");
         }
@@ -24,7 +47,9 @@ public class DirectedGraphAdjacencyMatrix<T> {
         labels[size++] = data;
     }
 
+    @Override
     public void addEdge(int sourceVertex, int targetVertex) {
+        checkWritable();
         if (!isValidEdge(sourceVertex, targetVertex)) {
             throw new IllegalArgumentException("Invalid edge index");
         }
@@ -48,6 +73,7 @@ public class DirectedGraphAdjacencyMatrix<T> {
                 targetVertex < size;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
     public T getVertex(int index) {
         if (size == 0) {
@@ -57,6 +83,47 @@ public class DirectedGraphAdjacencyMatrix<T> {
         return (T) labels[index];
     }
 
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        if (!isValidEdge(sourceVertex, targetVertex)) {
+            throw new IllegalArgumentException("Invalid edge index");
+        }
+        return edges[sourceVertex][targetVertex];
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        int degree = 0;
+        boolean[] row = edges[vertex];
+        for (int i = 0; i < size; i++) {
+            if (row[i]) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        boolean[] row = edges[vertex];
+        for (int i = 0; i < size; i++) {
+            if (row[i]) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        boolean[] row = edges[vertex];
+        for (int i = 0; i < size; i++) {
+            if (row[i] && !consumer.test(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public Set<Integer> getNeighborsForVertex(int vertex) {
         Set<Integer> neighbors = new HashSet<>();
         for (int i = 0; i < edges.length; i++) {
@@ -68,42 +135,110 @@ public class DirectedGraphAdjacencyMatrix<T> {
     }
 
     public void dfs(int startVertex, Consumer<T> consumer) {
-        boolean[] marked = new boolean[size];
-        dfsRecursive(marked, consumer, startVertex);
+        GraphTraversals.dfs(this, startVertex, consumer);
+    }
+
+    /**
+     * Depth first traversal that keeps its visited marks in the given workspace instead of
+     * allocating them.
+     */
+    public void dfs(int startVertex, Consumer<T> consumer, TraversalWorkspace workspace) {
+        GraphTraversals.dfs(this, startVertex, consumer, workspace);
+    }
+
+    public void bfs(int startVertex, Consumer<T> consumer) {
+        GraphTraversals.bfs(this, startVertex, consumer);
+    }
+
+    /**
+     * Breadth first traversal that keeps its visited marks and queue in the given workspace
+     * instead of allocating them.
+     */
+    public void bfs(int startVertex, Consumer<T> consumer, TraversalWorkspace workspace) {
+        GraphTraversals.bfs(this, startVertex, consumer, workspace);
     }
 
+    /**
+     * @see GraphTraversals#kHop(Graph, int, int, int, TraversalWorkspace)
+     */
+    public KHopNeighborhood kHop(int sourceVertex, int hops, int maxVertices) {
+        return GraphTraversals.kHop(this, sourceVertex, hops, maxVertices);
+    }
+
+    /**
+     * @see GraphTraversals#kHop(Graph, int, int, int, TraversalWorkspace)
+     */
+    public KHopNeighborhood kHop(int sourceVertex, int hops, int maxVertices, TraversalWorkspace workspace) {
+        return GraphTraversals.kHop(this, sourceVertex, hops, maxVertices, workspace);
+    }
+
+    /**
+     * Copies the given vertices and the edges between them into a new graph sized to fit.
+     *
+     * @param vertices the vertices to keep; vertex <code>i</code> of the new graph is <code>vertices[i]</code>
+     */
     @SuppressWarnings("unchecked")
-    private void dfsRecursive(boolean[] marked, Consumer<T> consumer, int vertex) {
-        if (!marked[vertex]) {
-            consumer.accept((T) labels[vertex]);
-            marked[vertex] = true;
-            Set<Integer> neighbors = getNeighborsForVertex(vertex);
-            neighbors.stream()
-                    .filter((neighbor) -> !marked[neighbor])
-                    .forEach((neighbor) -> dfsRecursive(marked, consumer, neighbor));
+    public DirectedGraphAdjacencyMatrix<T> inducedSubgraph(int[] vertices) {
+        for (int vertex : vertices) {
+            if (!isValidEdge(vertex, vertex)) {
+                throw new IllegalArgumentException("Invalid vertex index");
+            }
+        }
+
+        DirectedGraphAdjacencyMatrix<T> subgraph = new DirectedGraphAdjacencyMatrix<>(vertices.length);
+        for (int vertex : vertices) {
+            subgraph.addVertex((T) labels[vertex]);
         }
+        for (int source = 0; source < vertices.length; source++) {
+            for (int target = 0; target < vertices.length; target++) {
+                if (edges[vertices[source]][vertices[target]]) {
+                    subgraph.addEdge(source, target);
+                }
+            }
+        }
+        return subgraph;
     }
 
-    @SuppressWarnings("unchecked")
-    public void bfs(int startVertex, Consumer<T> consumer) {
-        boolean[] marked = new boolean[size];
-        Queue<Integer> queue = new ArrayDeque<>();
-
-        consumer.accept((T) labels[startVertex]);
-        marked[startVertex] = true;
-        queue.add(startVertex);
-
-        while (!queue.isEmpty()) {
-            Set<Integer> unseenNeighbors = getNeighborsForVertex(queue.poll()).stream()
-                    .filter((neighbor) -> !marked[neighbor])
-                    .collect(Collectors.toSet());
-            unseenNeighbors.forEach((neighbor) -> {
-                queue.add(neighbor);
-                consumer.accept((T) labels[neighbor]);
-            });
+    /**
+     * Relabels the vertices so that vertices visited together sit at nearby indexes.  The
+     * adjacency rows and labels are rebuilt in the new order.
+     *
+     * @param strategy the ordering to apply
+     * @return the new index of every vertex, indexed by its old index
+     */
+    public int[] reorder(ReorderStrategy strategy) {
+        checkWritable();
+        int[][] neighbors = new int[size][];
+        for (int vertex = 0; vertex < size; vertex++) {
+            int count = 0;
+            int[] row = new int[size];
+            for (int i = 0; i < size; i++) {
+                if (edges[vertex][i]) {
+                    row[count++] = i;
+                }
+            }
+            neighbors[vertex] = Arrays.copyOf(row, count);
+        }
+
+        int[] order = strategy.order(neighbors);
+        int[] mapping = ReorderStrategy.invert(order);
+
+        boolean[][] reorderedEdges = new boolean[size][];
+        Object[] reorderedLabels = new Object[size];
+        for (int vertex = 0; vertex < size; vertex++) {
+            int oldVertex = order[vertex];
+            reorderedLabels[vertex] = labels[oldVertex];
+            reorderedEdges[vertex] = new boolean[max];
+            for (int neighbor : neighbors[oldVertex]) {
+                reorderedEdges[vertex][mapping[neighbor]] = true;
+            }
         }
+        System.arraycopy(reorderedEdges, 0, edges, 0, size);
+        System.arraycopy(reorderedLabels, 0, labels, 0, size);
+        return mapping;
     }
 
+    @Override
     public int size() {
         return size;
     }
@@ -0,0 +1,106 @@
+package com.wright.graph;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A directed graph that keeps each adjacency row as packed 64 bit words, one bit per
+ * possible target.  It takes an eighth of the memory of {@link DirectedGraphAdjacencyMatrix}
+ * and walks a row a word at a time, skipping empty words, which suits dense graphs too
+ * large for a <code>boolean</code> matrix.
+ */
+public class DirectedGraphBitSet<T> implements Graph<T> {
+    private final int max;
+    private final Object[] labels;
+    private final long[][] rows;
+    private int size = 0;
+
+    public DirectedGraphBitSet(int max) {
+        this.max = max;
+        labels = new Object[max];
+        rows = new long[max][(max + 63) >>> 6];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        validateVertex(vertex);
+        return (T) labels[vertex];
+    }
+
+    @Override
+    public void addVertex(T data) {
+        if (size == max) {
+            throw new IllegalArgumentException("Graph is full");
+        }
+        labels[size++] = data;
+    }
+
+    @Override
+    public void addEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        rows[sourceVertex][targetVertex >>> 6] |= 1L << targetVertex;
+    }
+
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return (rows[sourceVertex][targetVertex >>> 6] & (1L << targetVertex)) != 0;
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        validateVertex(vertex);
+        int degree = 0;
+        for (long word : rows[vertex]) {
+            degree += Long.bitCount(word);
+        }
+        return degree;
+    }
+
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        validateVertex(vertex);
+        long[] row = rows[vertex];
+        for (int index = 0; index < row.length; index++) {
+            long word = row[index];
+            while (word != 0) {
+                consumer.accept((index << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        validateVertex(vertex);
+        long[] row = rows[vertex];
+        for (int index = 0; index < row.length; index++) {
+            long word = row[index];
+            while (word != 0) {
+                if (!consumer.test((index << 6) + Long.numberOfTrailingZeros(word))) {
+                    return false;
+                }
+                word &= word - 1;
+            }
+        }
+        return true;
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= size) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex < 0 || sourceVertex >= size || targetVertex < 0 || targetVertex >= size) {
+            throw new IllegalArgumentException("Invalid edge index");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wright.graph;
+
+import java.util.*;
+
+/**
+ * A {@link DirectedWeightedGraphAdjacencyMatrix} specialized for 16 bit weights.
+ * Weights are stored two bytes per edge, half of the
+ * {@link DirectedWeightedGraphAdjacencyMatrix} footprint.  The bytes are read as unsigned, so
+ * weights run from 0 to {@link #MAX_WEIGHT}, and <code>0xFFFF</code> marks a missing edge.
+ * Distances are accumulated as <code>int</code>.
+ */
+public class DirectedShortWeightedGraphAdjacencyMatrix<T> {
+    public static final int MAX_WEIGHT = 0xFFFE;
+
+    private static final short NO_EDGE = (short) 0xFFFF;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final int maxGraphCapacity;
+    private final short[][] edges;
+    private final Object[] vertexLabels;
+
+    private int graphSize = 0;
+
+    public DirectedShortWeightedGraphAdjacencyMatrix(int maxGraphCapacity) {
+        this.maxGraphCapacity = maxGraphCapacity;
+        this.edges = new short[maxGraphCapacity][maxGraphCapacity];
+        this.vertexLabels = new Object[maxGraphCapacity];
+
+        for (short[] row : edges) {
+            Arrays.fill(row, NO_EDGE);
+        }
+    }
+
+    public void addVertex(T data) {
+        if (graphSize >= maxGraphCapacity) {
+            throw new IllegalArgumentException("Graph is full");
+        }
+        vertexLabels[graphSize++] = data;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        if (vertex >= graphSize) {
+            throw new IllegalArgumentException("Invalid vertex - must not be greater than graph size");
+        }
+        return (T) vertexLabels[vertex];
+    }
+
+    public void addEdge(int sourceVertex, int targetVertex, int weight) {
+        validateEdge(sourceVertex, targetVertex);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weights must not be negative");
+        }
+        if (weight > MAX_WEIGHT) {
+            throw new IllegalArgumentException("Weight must not be greater than " + MAX_WEIGHT);
+        }
+        edges[sourceVertex][targetVertex] = (short) weight;
+    }
+
+    public Set<Integer> getNeighbors(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        Set<Integer> neighbors = new HashSet<>();
+        for (int i = 0; i < graphSize; i++) {
+            if (edges[sourceVertex][i] != NO_EDGE) {
+                neighbors.add(i);
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     * @return the weight, or {@link Integer#MAX_VALUE} if there is no edge
+     */
+    public int getWeightForEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        short weight = edges[sourceVertex][targetVertex];
+        return weight == NO_EDGE ? INFINITY : weight & 0xFFFF;
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex >= graphSize || targetVertex >= graphSize) {
+            throw new IllegalArgumentException("Source and target must be within the size of the graph");
+        }
+    }
+
+    public DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper calculateAllShortestPaths(int sourceVertex) {
+        validateEdge(sourceVertex, sourceVertex);
+
+        boolean[] settled = new boolean[graphSize];
+        int[] distances = new int[graphSize];
+        int[] predecessors = new int[graphSize];
+
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, Integer.MAX_VALUE);
+
+        distances[sourceVertex] = 0;
+        predecessors[sourceVertex] = 0;
+
+        for (int i = 0; i < graphSize; i++) {
+            int next = -1;
+            int smallest = INFINITY;
+            for (int vertex = 0; vertex < graphSize; vertex++) {
+                if (!settled[vertex] && distances[vertex] < smallest) {
+                    smallest = distances[vertex];
+                    next = vertex;
+                }
+            }
+            if (next == -1) {
+                break;
+            }
+            settled[next] = true;
+
+            short[] row = edges[next];
+            for (int neighbor = 0; neighbor < graphSize; neighbor++) {
+                if (row[neighbor] != NO_EDGE && !settled[neighbor]) {
+                    long sum = (long) distances[next] + (row[neighbor] & 0xFFFF);
+                    if (sum < distances[neighbor]) {
+                        predecessors[neighbor] = next;
+                        distances[neighbor] = (int) sum;
+                    }
+                }
+            }
+        }
+
+        return new DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper(sourceVertex, distances, predecessors);
+    }
+
+    public int getGraphSize() {
+        return graphSize;
+    }
+}
@@ -0,0 +1,162 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A weighted directed graph that keeps, per vertex, a sorted <code>int[]</code> of targets
+ * and a parallel <code>int[]</code> of weights.  Memory grows with the number of edges, so
+ * this is the layout for large sparse graphs where
+ * {@link DirectedWeightedGraphAdjacencyMatrix} would not fit.
+ */
+public class DirectedWeightedGraphAdjacencyList<T> implements WeightedGraph<T> {
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int[] EMPTY = new int[0];
+
+    private Object[] labels;
+    private int[][] targets;
+    private int[][] weights;
+    private int[] degrees;
+    private int size = 0;
+
+    public DirectedWeightedGraphAdjacencyList() {
+        this(16);
+    }
+
+    public DirectedWeightedGraphAdjacencyList(int expectedVertices) {
+        int capacity = Math.max(1, expectedVertices);
+        labels = new Object[capacity];
+        targets = new int[capacity][];
+        weights = new int[capacity][];
+        degrees = new int[capacity];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getVertex(int vertex) {
+        validateVertex(vertex);
+        return (T) labels[vertex];
+    }
+
+    @Override
+    public void addVertex(T data) {
+        if (size == labels.length) {
+            int capacity = size * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            degrees = Arrays.copyOf(degrees, capacity);
+        }
+        labels[size] = data;
+        targets[size] = EMPTY;
+        weights[size] = EMPTY;
+        size++;
+    }
+
+    /**
+     * Adds an edge, keeping the row sorted by target.  Adding an edge that already exists
+     * replaces its weight, as the matrix does.  Weights must not be negative, and
+     * {@link Integer#MAX_VALUE} is reserved to mark a missing edge.
+     */
+    @Override
+    public void addEdge(int sourceVertex, int targetVertex, int weight) {
+        validateEdge(sourceVertex, targetVertex);
+        DirectedWeightedGraphAdjacencyMatrix.validateWeight(weight);
+        int degree = degrees[sourceVertex];
+        int index = Arrays.binarySearch(targets[sourceVertex], 0, degree, targetVertex);
+        if (index >= 0) {
+            weights[sourceVertex][index] = weight;
+            return;
+        }
+
+        index = -index - 1;
+        if (degree == targets[sourceVertex].length) {
+            int capacity = Math.max(4, degree * 2);
+            targets[sourceVertex] = Arrays.copyOf(targets[sourceVertex], capacity);
+            weights[sourceVertex] = Arrays.copyOf(weights[sourceVertex], capacity);
+        }
+        int[] targetRow = targets[sourceVertex];
+        int[] weightRow = weights[sourceVertex];
+        System.arraycopy(targetRow, index, targetRow, index + 1, degree - index);
+        System.arraycopy(weightRow, index, weightRow, index + 1, degree - index);
+        targetRow[index] = targetVertex;
+        weightRow[index] = weight;
+        degrees[sourceVertex] = degree + 1;
+    }
+
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return indexOf(sourceVertex, targetVertex) >= 0;
+    }
+
+    @Override
+    public int getWeightForEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        int index = indexOf(sourceVertex, targetVertex);
+        return index >= 0 ? weights[sourceVertex][index] : INFINITY;
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        validateVertex(vertex);
+        return degrees[vertex];
+    }
+
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        validateVertex(vertex);
+        int[] row = targets[vertex];
+        for (int i = 0; i < degrees[vertex]; i++) {
+            consumer.accept(row[i]);
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        validateVertex(vertex);
+        int[] row = targets[vertex];
+        for (int i = 0; i < degrees[vertex]; i++) {
+            if (!consumer.test(row[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachEdge(int vertex, EdgeConsumer consumer) {
+        validateVertex(vertex);
+        int[] targetRow = targets[vertex];
+        int[] weightRow = weights[vertex];
+        for (int i = 0; i < degrees[vertex]; i++) {
+            consumer.accept(targetRow[i], weightRow[i]);
+        }
+    }
+
+    public DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper calculateAllShortestPaths(int sourceVertex) {
+        return ShortestPaths.calculateAllShortestPaths(this, sourceVertex);
+    }
+
+    private int indexOf(int sourceVertex, int targetVertex) {
+        return Arrays.binarySearch(targets[sourceVertex], 0, degrees[sourceVertex], targetVertex);
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= size) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    private void validateEdge(int sourceVertex, int targetVertex) {
+        if (sourceVertex < 0 || sourceVertex >= size || targetVertex < 0 || targetVertex >= size) {
+            throw new IllegalArgumentException("Source and target must be within the size of the graph");
+        }
+    }
+}
@@ -1,33 +1,58 @@
 package com.wright.graph;
 
 import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
-public class DirectedWeightedGraphAdjacencyMatrix<T> {
+public class DirectedWeightedGraphAdjacencyMatrix<T> implements WeightedGraph<T> {
     private static final int INFINITY = Integer.MAX_VALUE;
 
     private final int maxGraphCapacity;
     private final int[][] edges;
     private final Object[] vertexLabels;
 
+    private final boolean readOnly;
     private int graphSize = 0;
 
     public DirectedWeightedGraphAdjacencyMatrix(int maxGraphCapacity) {
         this.maxGraphCapacity = maxGraphCapacity;
         this.edges = new int[maxGraphCapacity][maxGraphCapacity];
         this.vertexLabels = new Object[maxGraphCapacity];
+        this.readOnly = false;
 
         for (int[] row : edges) {
             Arrays.fill(row, INFINITY);
         }
     }
 
+    /**
+     * Creates a read-only view over existing storage.  Used by {@link VersionedDirectedWeightedGraph}
+     * to hand out immutable versions without copying.
+     */
+    DirectedWeightedGraphAdjacencyMatrix(Object[] vertexLabels, int[][] edges, int graphSize) {
+        this.maxGraphCapacity = edges.length;
+        this.edges = edges;
+        this.vertexLabels = vertexLabels;
+        this.graphSize = graphSize;
+        this.readOnly = true;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Graph version is read-only");
+        }
+    }
+
+    @Override
     public void addVertex(T data) {
+        checkWritable();
         if (graphSize >= maxGraphCapacity) {
             throw new IllegalArgumentException("Graph is full");
         }
         vertexLabels[graphSize++] = data;
     }
 
+    @Override
     @SuppressWarnings("unchecked")
     public T getVertex(int vertex) {
         if (vertex >= graphSize) {
@@ -36,11 +61,67 @@ public class DirectedWeightedGraphAdjacencyMatrix<T> {
         return (T) vertexLabels[vertex];
     }
 
+    /**
+     * Weights must not be negative, and {@link Integer#MAX_VALUE} is reserved to mark a
+     * missing edge.
+     */
+    @Override
     public void addEdge(int sourceVertex, int targetVertex, int weight) {
+        checkWritable();
         validateEdge(sourceVertex, targetVertex);
+        validateWeight(weight);
         edges[sourceVertex][targetVertex] = weight;
     }
 
+    @Override
+    public boolean hasEdge(int sourceVertex, int targetVertex) {
+        validateEdge(sourceVertex, targetVertex);
+        return edges[sourceVertex][targetVertex] != INFINITY;
+    }
+
+    @Override
+    public int getDegree(int vertex) {
+        int degree = 0;
+        int[] row = edges[vertex];
+        for (int i = 0; i < graphSize; i++) {
+            if (row[i] != INFINITY) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    @Override
+    public void forEachNeighbor(int vertex, IntConsumer consumer) {
+        int[] row = edges[vertex];
+        for (int i = 0; i < graphSize; i++) {
+            if (row[i] != INFINITY) {
+                consumer.accept(i);
+            }
+        }
+    }
+
+    @Override
+    public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+        int[] row = edges[vertex];
+        for (int i = 0; i < graphSize; i++) {
+            if (row[i] != INFINITY && !consumer.test(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachEdge(int vertex, EdgeConsumer consumer) {
+        int[] row = edges[vertex];
+        for (int i = 0; i < graphSize; i++) {
+            if (row[i] != INFINITY) {
+                consumer.accept(i, row[i]);
+            }
+        }
+    }
+
     public Set<Integer> getNeighbors(int sourceVertex) {
         validateEdge(sourceVertex, sourceVertex);
 
@@ -53,11 +134,24 @@ public class DirectedWeightedGraphAdjacencyMatrix<T> {
         return neighbors;
     }
 
+    @Override
     public int getWeightForEdge(int sourceVertex, int targetVertex) {
         validateEdge(sourceVertex, targetVertex);
         return edges[sourceVertex][targetVertex];
     }
 
+    /**
+     * The weight rules shared by every {@link WeightedGraph} in this package.
+     */
+    static void validateWeight(int weight) {
+        if (weight == INFINITY) {
+            throw new IllegalArgumentException("Weight is reserved to mark a missing edge");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weights must not be negative");
+        }
+    }
+
     private void validateEdge(int sourceVertex, int targetVertex) {
         if (sourceVertex >= graphSize || targetVertex >= graphSize) {
             throw new IllegalArgumentException("Source and target must be within the size of the graph");
@@ -65,31 +159,16 @@ public class DirectedWeightedGraphAdjacencyMatrix<T> {
     }
 
     public ShortestPathHelper calculateAllShortestPaths(int sourceVertex) {
-        Set<Integer> allowedVertices = new HashSet<>();
-        int[] distances = new int[graphSize];
-        int[] predecessors = new int[graphSize];
-
-        Arrays.fill(distances, INFINITY);
-        Arrays.fill(predecessors, INFINITY);
-
-        distances[sourceVertex] = 0;
-        predecessors[sourceVertex] = 0;
-
-        for (int i = 1; i <= graphSize; i++) {
-            int next = getNextSmallestDistanceIndex(distances, allowedVertices);
-            allowedVertices.add(next);
-
-            for (int neighbor : getNeighbors(next)) {
-                int weight = getWeightForEdge(next, neighbor);
-                int sum = distances[next] + weight;
-                if (sum < distances[neighbor]) {
-                    predecessors[neighbor] = next;
-                    distances[neighbor] = sum;
-                }
-            }
-        }
+        return ShortestPaths.calculateAllShortestPaths(this, sourceVertex);
+    }
 
-        return new ShortestPathHelper(sourceVertex, distances, predecessors);
+    /**
+     * Dijkstra's algorithm that keeps the set of settled vertices in the given workspace
+     * instead of allocating it.  Vertices that cannot be reached keep a distance of
+     * {@link Integer#MAX_VALUE}.
+     */
+    public ShortestPathHelper calculateAllShortestPaths(int sourceVertex, TraversalWorkspace workspace) {
+        return ShortestPaths.calculateAllShortestPaths(this, sourceVertex, workspace);
     }
 
     protected int getNextSmallestDistanceIndex(int[] distances, Set<Integer> allowedVertices) {
@@ -105,51 +184,132 @@ public class DirectedWeightedGraphAdjacencyMatrix<T> {
     }
 
     public Set<T> depthFirstTraversal(int sourceVertex) {
-        Set<Integer> visited = new HashSet<>();
-        Set<T> processed = new HashSet<>();
-        return depthFirstRecursive(sourceVertex, visited, processed);
+        TraversalWorkspace workspace = TraversalWorkspace.forCurrentThread();
+        return depthFirstTraversal(sourceVertex, workspace);
     }
 
-    @SuppressWarnings("unchecked")
-    private Set<T> depthFirstRecursive(int vertex, Set<Integer> visited, Set<T> processed) {
-        processed.add((T) vertexLabels[vertex]);
-        visited.add(vertex);
-        getNeighbors(vertex).stream()
-                .filter(neighbor -> !visited.contains(neighbor))
-                .forEach(neighbor -> depthFirstRecursive(neighbor, visited, processed));
+    /**
+     * Depth first traversal that keeps its visited marks in the given workspace instead of
+     * allocating them.
+     */
+    public Set<T> depthFirstTraversal(int sourceVertex, TraversalWorkspace workspace) {
+        validateEdge(sourceVertex, sourceVertex);
+        Set<T> processed = new HashSet<>();
+        GraphTraversals.dfs(this, sourceVertex, processed::add, workspace);
         return processed;
     }
 
-    @SuppressWarnings("unchecked")
     public Set<T> breadthFirstTraversal(int sourceVertex) {
-        validateEdge(sourceVertex, sourceVertex);
+        TraversalWorkspace workspace = TraversalWorkspace.forCurrentThread();
+        return breadthFirstTraversal(sourceVertex, workspace);
+    }
 
+    /**
+     * Breadth first traversal that keeps its visited marks and queue in the given workspace
+     * instead of allocating them.
+     */
+    public Set<T> breadthFirstTraversal(int sourceVertex, TraversalWorkspace workspace) {
+        validateEdge(sourceVertex, sourceVertex);
         Set<T> processed = new HashSet<>();
-        Set<Integer> visited = new HashSet<>();
-        Queue<Integer> toVisit = new ArrayDeque<>();
-        toVisit.add(sourceVertex);
-
-        while (!toVisit.isEmpty()) {
-            int next = toVisit.poll();
-            processed.add((T) vertexLabels[next]);
-            visited.add(next);
-            getNeighbors(next).stream()
-                    .filter(neighbor -> !visited.contains(neighbor))
-                    .forEach(toVisit::add);
-        }
+        GraphTraversals.bfs(this, sourceVertex, processed::add, workspace);
         return processed;
     }
 
+    /**
+     * @see GraphTraversals#kHop(Graph, int, int, int, TraversalWorkspace)
+     */
+    public KHopNeighborhood kHop(int sourceVertex, int hops, int maxVertices) {
+        return GraphTraversals.kHop(this, sourceVertex, hops, maxVertices);
+    }
+
+    /**
+     * @see GraphTraversals#kHop(Graph, int, int, int, TraversalWorkspace)
+     */
+    public KHopNeighborhood kHop(int sourceVertex, int hops, int maxVertices, TraversalWorkspace workspace) {
+        return GraphTraversals.kHop(this, sourceVertex, hops, maxVertices, workspace);
+    }
+
+    /**
+     * Copies the given vertices and the edges between them into a new graph sized to fit.
+     *
+     * @param vertices the vertices to keep; vertex <code>i</code> of the new graph is <code>vertices[i]</code>
+     */
+    @SuppressWarnings("unchecked")
+    public DirectedWeightedGraphAdjacencyMatrix<T> inducedSubgraph(int[] vertices) {
+        for (int vertex : vertices) {
+            validateEdge(vertex, vertex);
+        }
+
+        DirectedWeightedGraphAdjacencyMatrix<T> subgraph = new DirectedWeightedGraphAdjacencyMatrix<>(vertices.length);
+        for (int vertex : vertices) {
+            subgraph.addVertex((T) vertexLabels[vertex]);
+        }
+        for (int source = 0; source < vertices.length; source++) {
+            for (int target = 0; target < vertices.length; target++) {
+                int weight = edges[vertices[source]][vertices[target]];
+                if (weight != INFINITY) {
+                    subgraph.addEdge(source, target, weight);
+                }
+            }
+        }
+        return subgraph;
+    }
+
+    /**
+     * Relabels the vertices so that vertices visited together sit at nearby indexes.  The
+     * adjacency rows and labels are rebuilt in the new order.
+     *
+     * @param strategy the ordering to apply
+     * @return the new index of every vertex, indexed by its old index
+     */
+    public int[] reorder(ReorderStrategy strategy) {
+        checkWritable();
+        int[][] neighbors = new int[graphSize][];
+        for (int vertex = 0; vertex < graphSize; vertex++) {
+            int count = 0;
+            int[] row = new int[graphSize];
+            for (int i = 0; i < graphSize; i++) {
+                if (edges[vertex][i] != INFINITY) {
+                    row[count++] = i;
+                }
+            }
+            neighbors[vertex] = Arrays.copyOf(row, count);
+        }
+
+        int[] order = strategy.order(neighbors);
+        int[] mapping = ReorderStrategy.invert(order);
+
+        int[][] reorderedEdges = new int[graphSize][];
+        Object[] reorderedLabels = new Object[graphSize];
+        for (int vertex = 0; vertex < graphSize; vertex++) {
+            int oldVertex = order[vertex];
+            reorderedLabels[vertex] = vertexLabels[oldVertex];
+            reorderedEdges[vertex] = new int[maxGraphCapacity];
+            Arrays.fill(reorderedEdges[vertex], INFINITY);
+            for (int neighbor : neighbors[oldVertex]) {
+                reorderedEdges[vertex][mapping[neighbor]] = edges[oldVertex][neighbor];
+            }
+        }
+        System.arraycopy(reorderedEdges, 0, edges, 0, graphSize);
+        System.arraycopy(reorderedLabels, 0, vertexLabels, 0, graphSize);
+        return mapping;
+    }
+
     public int getGraphSize() {
         return graphSize;
     }
 
+    @Override
+    public int size() {
+        return graphSize;
+    }
+
     public static final class ShortestPathHelper {
         private final int source;
         private final int[] distances;
         private final int[] predecessors;
 
-        private ShortestPathHelper(int source, int[] distances, int[] predecessors) {
+        ShortestPathHelper(int source, int[] distances, int[] predecessors) {
             this.source = source;
             this.distances = distances;
             this.predecessors = predecessors;
@@ -167,6 +327,16 @@ public class DirectedWeightedGraphAdjacencyMatrix<T> {
             if (targetVertex >= distances.length) {
                 throw new IllegalArgumentException("targetVertex must be less than the size of the graph");
             }
+            return walkPredecessors(source, predecessors, targetVertex);
+        }
+
+        /**
+         * Follows the predecessor chain from the target back to the source.  Shared by the
+         * shortest path helpers of every weight width, since only the distances differ.
+         *
+         * @return the path, starting with <code>targetVertex</code> and ending with <code>source</code>
+         */
+        static List<Integer> walkPredecessors(int source, int[] predecessors, int targetVertex) {
             List<Integer> response = new ArrayList<>();
             response.add(targetVertex);
 
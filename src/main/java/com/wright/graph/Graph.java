@@ -0,0 +1,43 @@
+package com.wright.graph;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * A directed graph whose vertices are numbered from 0 in the order they were added.  The
+ * traversals in {@link GraphTraversals} and the analytics in this package are written
+ * against this interface, so they run on every storage layout.  {@link GraphBuilder} picks
+ * a layout from the expected size and density of the graph.
+ * <p>
+ * Read-only implementations throw {@link IllegalStateException} from the update methods.
+ */
+public interface Graph<T> {
+    int size();
+
+    T getVertex(int vertex);
+
+    void addVertex(T data);
+
+    void addEdge(int sourceVertex, int targetVertex);
+
+    boolean hasEdge(int sourceVertex, int targetVertex);
+
+    /**
+     * @return the number of edges leaving the vertex
+     */
+    int getDegree(int vertex);
+
+    /**
+     * Passes every vertex the given vertex has an edge to, in ascending order, without
+     * boxing or allocating a collection.
+     */
+    void forEachNeighbor(int vertex, IntConsumer consumer);
+
+    /**
+     * Passes neighbors in ascending order, like {@link #forEachNeighbor}, until the consumer
+     * returns <code>false</code>.  The rest of the row is not scanned.
+     *
+     * @return <code>true</code> if every neighbor was passed
+     */
+    boolean forEachNeighborWhile(int vertex, IntPredicate consumer);
+}
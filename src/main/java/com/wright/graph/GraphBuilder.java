@@ -0,0 +1,121 @@
+package com.wright.graph;
+
+/**
+ * Picks a storage layout for a new graph from its expected number of vertices and edges.
+ * <ul>
+ * <li>Graphs of up to {@link #SMALL_GRAPH_VERTICES} vertices use an adjacency matrix, whose
+ * constant time lookups win while the whole matrix stays in cache.</li>
+ * <li>Larger unweighted graphs with at least one edge in {@link #BITSET_MIN_DENSITY_INVERSE}
+ * possible edges use a bitset, which is as compact as a sorted list at that density and
+ * scans a row a word at a time.</li>
+ * <li>Larger weighted graphs with at least one edge in {@link #WEIGHTED_MATRIX_MIN_DENSITY_INVERSE}
+ * possible edges keep the matrix, since a list would store an <code>int</code> target next
+ * to every weight.</li>
+ * <li>Everything else uses sorted adjacency lists, whose memory grows with the edges.</li>
+ * </ul>
+ * The matrix and bitset layouts are sized for <code>expectedVertices</code> and cannot grow
+ * past it, while the lists grow on demand, so <code>expectedVertices</code> must be set
+ * before building.
+ */
+public class GraphBuilder<T> {
+    public static final int SMALL_GRAPH_VERTICES = 512;
+    public static final int BITSET_MIN_DENSITY_INVERSE = 32;
+    public static final int WEIGHTED_MATRIX_MIN_DENSITY_INVERSE = 4;
+
+    public enum Backend {
+        MATRIX,
+        BITSET,
+        SPARSE
+    }
+
+    private int expectedVertices = -1;
+    private long expectedEdges = 0;
+    private Backend backend;
+
+    public GraphBuilder<T> expectedVertices(int expectedVertices) {
+        if (expectedVertices < 0) {
+            throw new IllegalArgumentException("Expected vertices must not be negative");
+        }
+        this.expectedVertices = expectedVertices;
+        return this;
+    }
+
+    public GraphBuilder<T> expectedEdges(long expectedEdges) {
+        if (expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected edges must not be negative");
+        }
+        this.expectedEdges = expectedEdges;
+        return this;
+    }
+
+    /**
+     * Forces a layout instead of choosing one from the expected size.
+     */
+    public GraphBuilder<T> backend(Backend backend) {
+        this.backend = backend;
+        return this;
+    }
+
+    /**
+     * @return the layout {@link #build()} would use
+     */
+    public Backend getBackend() {
+        if (backend != null) {
+            return backend;
+        }
+        if (expectedVertices <= SMALL_GRAPH_VERTICES) {
+            return Backend.MATRIX;
+        }
+        return isDenserThan(BITSET_MIN_DENSITY_INVERSE) ? Backend.BITSET : Backend.SPARSE;
+    }
+
+    /**
+     * @return the layout {@link #buildWeighted()} would use
+     */
+    public Backend getWeightedBackend() {
+        if (backend != null) {
+            return backend;
+        }
+        if (expectedVertices <= SMALL_GRAPH_VERTICES || isDenserThan(WEIGHTED_MATRIX_MIN_DENSITY_INVERSE)) {
+            return Backend.MATRIX;
+        }
+        return Backend.SPARSE;
+    }
+
+    public Graph<T> build() {
+        checkExpectedVertices();
+        switch (getBackend()) {
+            case MATRIX:
+                return new DirectedGraphAdjacencyMatrix<>(expectedVertices);
+            case BITSET:
+                return new DirectedGraphBitSet<>(expectedVertices);
+            default:
+                return new DirectedGraphAdjacencyList<>(expectedVertices);
+        }
+    }
+
+    public WeightedGraph<T> buildWeighted() {
+        checkExpectedVertices();
+        switch (getWeightedBackend()) {
+            case MATRIX:
+                return new DirectedWeightedGraphAdjacencyMatrix<>(expectedVertices);
+            case BITSET:
+                throw new IllegalArgumentException("The bitset backend cannot store weights");
+            default:
+                return new DirectedWeightedGraphAdjacencyList<>(expectedVertices);
+        }
+    }
+
+    private void checkExpectedVertices() {
+        if (expectedVertices < 0) {
+            throw new IllegalStateException("Expected vertices must be set before building");
+        }
+    }
+
+    /**
+     * Checks <code>edges / vertices^2 >= 1 / inverse</code> without floating point.
+     */
+    private boolean isDenserThan(int inverse) {
+        return expectedEdges * inverse >= (long) expectedVertices * expectedVertices;
+    }
+}
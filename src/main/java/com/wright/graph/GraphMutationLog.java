@@ -0,0 +1,710 @@
+package com.wright.graph;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * A write-ahead log that makes the mutations of a {@link Graph} survive a restart.
+ * <p>
+ * Every mutation goes through this class, which applies it to the graph and appends a
+ * binary record to an in-memory batch under one lock, so the log order is the order the
+ * vertex indexes were handed out.  The caller then waits for the batch to reach disk.  The
+ * first waiter becomes the leader, writes everything queued so far as one checksummed frame
+ * through a {@link FileChannel} and calls <code>force</code> once for the whole group, while
+ * writers arriving meanwhile queue up for the next frame.
+ * <p>
+ * A checkpoint writes the whole graph to a new file, atomically renames it over the previous
+ * checkpoint and empties the log.  Both files carry a generation number, so a crash between
+ * the rename and the truncation cannot replay records twice.  Checkpoints run on request and
+ * whenever the log grows past the configured threshold, which bounds the replay work.
+ * <p>
+ * Recovery streams both files through a read buffer, counts the vertices and edges they
+ * hold, creates the graph through a {@link GraphFactory} sized for that count, and replays
+ * the records one <code>addVertex</code> or <code>addEdge</code> call at a time.  Because the
+ * graph is presized, the replay never regrows the vertex table.  A torn frame at the end of
+ * the log, left by a crash during a write, is dropped.
+ * <p>
+ * The graph must only be changed through this log.  It is not locked for readers.
+ */
+public class GraphMutationLog<T, G extends Graph<T>> implements Closeable {
+    public static final String LOG_FILE = "graph.log";
+    public static final String CHECKPOINT_FILE = "graph.checkpoint";
+    public static final long DEFAULT_CHECKPOINT_THRESHOLD = 64L * 1024 * 1024;
+
+    private static final int LOG_MAGIC = 0x47574c31;
+    private static final int CHECKPOINT_MAGIC = 0x47434b31;
+    private static final int LOG_HEADER_SIZE = 12;
+    private static final int FRAME_HEADER_SIZE = 8;
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    private static final byte ADD_VERTEX = 1;
+    private static final byte ADD_EDGE = 2;
+    private static final byte ADD_WEIGHTED_EDGE = 3;
+
+    private final Path directory;
+    private final LabelCodec<T> codec;
+    private final G graph;
+    private final long checkpointThreshold;
+    private final FileChannel channel;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushed = lock.newCondition();
+    private ByteBuffer pending = ByteBuffer.allocate(4096);
+    private ByteBuffer spare = ByteBuffer.allocate(4096);
+    private long appended = 0;
+    private long durable = 0;
+    private boolean flushing = false;
+    private IOException failure;
+    private long generation;
+    private long logSize;
+    private boolean closed = false;
+
+    private GraphMutationLog(Path directory, LabelCodec<T> codec, G graph, long checkpointThreshold,
+                             FileChannel channel, long generation, long logSize) {
+        this.directory = directory;
+        this.codec = codec;
+        this.graph = graph;
+        this.checkpointThreshold = checkpointThreshold;
+        this.channel = channel;
+        this.generation = generation;
+        this.logSize = logSize;
+    }
+
+    public static <T, G extends Graph<T>> GraphMutationLog<T, G> open(Path directory, LabelCodec<T> codec,
+                                                                      GraphFactory<G> factory) throws IOException {
+        return open(directory, codec, factory, DEFAULT_CHECKPOINT_THRESHOLD, READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Recovers the graph stored in the directory, creating the directory if needed, and
+     * opens the log for new mutations.
+     *
+     * @param factory             creates the empty graph to replay into
+     * @param checkpointThreshold the log size in bytes that triggers an automatic checkpoint
+     */
+    public static <T, G extends Graph<T>> GraphMutationLog<T, G> open(Path directory, LabelCodec<T> codec,
+                                                                      GraphFactory<G> factory,
+                                                                      long checkpointThreshold) throws IOException {
+        return open(directory, codec, factory, checkpointThreshold, READ_BUFFER_SIZE);
+    }
+
+    /**
+     * Recovery reads both files sequentially through a buffer of the given size, so files of
+     * any length can be replayed.  Tests use tiny buffers to cross every buffer boundary.
+     */
+    static <T, G extends Graph<T>> GraphMutationLog<T, G> open(Path directory, LabelCodec<T> codec,
+                                                               GraphFactory<G> factory, long checkpointThreshold,
+                                                               int readBufferSize) throws IOException {
+        Files.createDirectories(directory);
+        Path checkpointPath = directory.resolve(CHECKPOINT_FILE);
+        Path logPath = directory.resolve(LOG_FILE);
+
+        FileChannel checkpoint = Files.exists(checkpointPath)
+                ? FileChannel.open(checkpointPath, StandardOpenOption.READ) : null;
+        FileChannel channel = null;
+        try {
+            long generation = 0;
+            int vertices = 0;
+            long edges = 0;
+            ChannelReader checkpointReader = null;
+            if (checkpoint != null) {
+                checkpointReader = new ChannelReader(checkpoint, 0, readBufferSize);
+                if (checkpointReader.getInt() != CHECKPOINT_MAGIC) {
+                    throw new IOException("Not a graph checkpoint: " + checkpointPath);
+                }
+                generation = checkpointReader.getLong();
+                checkpointReader.get();
+                vertices = checkpointReader.getInt();
+                edges = checkpointReader.getLong();
+            }
+
+            channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            boolean current = false;
+            if (channel.size() >= LOG_HEADER_SIZE) {
+                ChannelReader header = new ChannelReader(channel, 0, LOG_HEADER_SIZE);
+                // A log left over from before the last checkpoint is already in it
+                current = header.getInt() == LOG_MAGIC && header.getLong() == generation;
+            }
+
+            long logEnd = LOG_HEADER_SIZE;
+            if (current) {
+                long[] counts = new long[2];
+                logEnd = scanLog(new ChannelReader(channel, LOG_HEADER_SIZE, readBufferSize), counts);
+                vertices += (int) counts[0];
+                edges += counts[1];
+            }
+
+            G graph = factory.create(vertices, edges);
+            if (checkpointReader != null) {
+                replayCheckpoint(checkpointReader, codec, graph);
+            }
+            if (current) {
+                replayLog(new ChannelReader(channel, LOG_HEADER_SIZE, readBufferSize), logEnd, codec, graph);
+            } else {
+                channel.position(0);
+                writeLogHeader(channel, generation);
+            }
+            channel.truncate(logEnd);
+            channel.position(logEnd);
+            channel.force(true);
+
+            return new GraphMutationLog<>(directory, codec, graph, checkpointThreshold, channel, generation, logEnd);
+        } catch (IOException | RuntimeException e) {
+            if (channel != null) {
+                channel.close();
+            }
+            throw e;
+        } finally {
+            if (checkpoint != null) {
+                checkpoint.close();
+            }
+        }
+    }
+
+    /**
+     * @return the recovered graph, which reflects every mutation made through this log
+     */
+    public G getGraph() {
+        return graph;
+    }
+
+    /**
+     * Adds a vertex and returns once it is durable.
+     *
+     * @return the index of the new vertex
+     */
+    public int addVertex(T data) {
+        byte[] label = codec.encode(data);
+        long sequence;
+        int vertex;
+        lock.lock();
+        try {
+            checkOpen();
+            vertex = graph.size();
+            graph.addVertex(data);
+            ensurePending(1 + 4 + label.length);
+            pending.put(ADD_VERTEX).putInt(label.length).put(label);
+            sequence = ++appended;
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(sequence);
+        return vertex;
+    }
+
+    /**
+     * Adds an edge and returns once it is durable.
+     */
+    public void addEdge(int sourceVertex, int targetVertex) {
+        long sequence;
+        lock.lock();
+        try {
+            checkOpen();
+            graph.addEdge(sourceVertex, targetVertex);
+            ensurePending(1 + 4 + 4);
+            pending.put(ADD_EDGE).putInt(sourceVertex).putInt(targetVertex);
+            sequence = ++appended;
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(sequence);
+    }
+
+    /**
+     * Adds a weighted edge and returns once it is durable.  The graph must be a {@link WeightedGraph}.
+     */
+    public void addEdge(int sourceVertex, int targetVertex, int weight) {
+        if (!(graph instanceof WeightedGraph)) {
+            throw new IllegalArgumentException("Weighted edges need a WeightedGraph");
+        }
+        long sequence;
+        lock.lock();
+        try {
+            checkOpen();
+            ((WeightedGraph<T>) graph).addEdge(sourceVertex, targetVertex, weight);
+            ensurePending(1 + 4 + 4 + 4);
+            pending.put(ADD_WEIGHTED_EDGE).putInt(sourceVertex).putInt(targetVertex).putInt(weight);
+            sequence = ++appended;
+        } finally {
+            lock.unlock();
+        }
+        awaitDurable(sequence);
+    }
+
+    /**
+     * @return the number of bytes in the log since the last checkpoint
+     */
+    public long getLogSize() {
+        lock.lock();
+        try {
+            return logSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the whole graph to a new checkpoint and empties the log.  Mutations wait while
+     * the checkpoint is written.
+     */
+    public void checkpoint() throws IOException {
+        lock.lock();
+        try {
+            checkOpen();
+            while (flushing) {
+                flushed.awaitUninterruptibly();
+            }
+            writeCheckpoint();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes any queued mutations and closes the log file.  The graph stays usable in memory.
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            while (flushing) {
+                flushed.awaitUninterruptibly();
+            }
+            closed = true;
+            if (failure == null && pending.position() > 0) {
+                writeFrame(pending);
+                pending.clear();
+                channel.force(false);
+                durable = appended;
+            }
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+            channel.close();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Mutation log is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Mutation log write failed", failure);
+        }
+    }
+
+    private void ensurePending(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+
+    /**
+     * Group commit.  Whoever finds no flush in progress writes every queued record as one
+     * frame and forces it; the others sleep until a flush covers their record.
+     */
+    private void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durable < sequence) {
+                if (failure != null) {
+                    throw new UncheckedIOException("Mutation log write failed", failure);
+                }
+                if (flushing) {
+                    flushed.awaitUninterruptibly();
+                    continue;
+                }
+
+                flushing = true;
+                ByteBuffer batch = pending;
+                pending = spare;
+                spare = batch;
+                long batchEnd = appended;
+
+                lock.unlock();
+                IOException error = null;
+                try {
+                    writeFrame(batch);
+                    channel.force(false);
+                } catch (IOException e) {
+                    error = e;
+                } finally {
+                    lock.lock();
+                }
+
+                batch.clear();
+                flushing = false;
+                if (error != null) {
+                    failure = error;
+                } else {
+                    durable = batchEnd;
+                    if (logSize >= checkpointThreshold) {
+                        try {
+                            writeCheckpoint();
+                        } catch (IOException e) {
+                            failure = e;
+                        }
+                    }
+                }
+                flushed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeFrame(ByteBuffer batch) throws IOException {
+        batch.flip();
+        CRC32 crc = new CRC32();
+        crc.update(batch.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+        header.putInt(batch.remaining()).putInt((int) crc.getValue()).flip();
+        long frameSize = FRAME_HEADER_SIZE + batch.remaining();
+
+        ByteBuffer[] buffers = new ByteBuffer[]{header, batch};
+        while (batch.hasRemaining()) {
+            channel.write(buffers);
+        }
+        logSize += frameSize;
+    }
+
+    /**
+     * Called with the lock held and no flush in progress.  Everything applied to the graph,
+     * including records still queued, ends up in the checkpoint, so they become durable too.
+     */
+    private void writeCheckpoint() throws IOException {
+        long nextGeneration = generation + 1;
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckpointWriter writer = new CheckpointWriter(out);
+            writer.write(nextGeneration);
+            out.force(true);
+        }
+        Files.move(temporary, directory.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        // The rename must be on disk before the log moves to the new generation, or a power
+        // failure could bring back the old checkpoint next to a log that no longer matches it
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        }
+
+        generation = nextGeneration;
+        channel.truncate(0);
+        channel.position(0);
+        writeLogHeader(channel, generation);
+        channel.force(true);
+        logSize = LOG_HEADER_SIZE;
+        pending.clear();
+        durable = appended;
+    }
+
+    private static void writeLogHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        header.putInt(LOG_MAGIC).putLong(generation).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    /**
+     * Checks every frame and counts the records in the valid ones.
+     *
+     * @param counts receives the number of vertices and edges
+     * @return the end of the last complete frame
+     */
+    private static long scanLog(ChannelReader log, long[] counts) throws IOException {
+        long end = LOG_HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        while (log.available() >= FRAME_HEADER_SIZE) {
+            int length = log.getInt();
+            int checksum = log.getInt();
+            if (length < 0 || length > log.available()) {
+                break;
+            }
+            ByteBuffer frame = ByteBuffer.wrap(log.getBytes(length));
+            crc.reset();
+            crc.update(frame.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+
+            while (frame.hasRemaining()) {
+                byte type = frame.get();
+                if (type == ADD_VERTEX) {
+                    int labelLength = frame.getInt();
+                    frame.position(frame.position() + labelLength);
+                    counts[0]++;
+                } else if (type == ADD_EDGE) {
+                    frame.position(frame.position() + 8);
+                    counts[1]++;
+                } else if (type == ADD_WEIGHTED_EDGE) {
+                    frame.position(frame.position() + 12);
+                    counts[1]++;
+                } else {
+                    throw unknownRecord(type);
+                }
+            }
+            end = log.position();
+        }
+        return end;
+    }
+
+    private static <T> void replayLog(ChannelReader log, long end, LabelCodec<T> codec, Graph<T> graph)
+            throws IOException {
+        while (log.position() < end) {
+            int length = log.getInt();
+            log.getInt(); // checksum, already verified by scanLog
+            long frameEnd = log.position() + length;
+            while (log.position() < frameEnd) {
+                byte type = log.get();
+                if (type == ADD_VERTEX) {
+                    graph.addVertex(codec.decode(log.getBytes(log.getInt())));
+                } else if (type == ADD_EDGE) {
+                    graph.addEdge(log.getInt(), log.getInt());
+                } else if (type == ADD_WEIGHTED_EDGE) {
+                    weighted(graph).addEdge(log.getInt(), log.getInt(), log.getInt());
+                } else {
+                    throw unknownRecord(type);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays a checkpoint whose header has already been read.
+     */
+    private static <T> void replayCheckpoint(ChannelReader checkpoint, LabelCodec<T> codec, Graph<T> graph)
+            throws IOException {
+        checkpoint.seek(4 + 8);
+        boolean isWeighted = checkpoint.get() != 0;
+        int vertices = checkpoint.getInt();
+        checkpoint.getLong();
+
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            graph.addVertex(codec.decode(checkpoint.getBytes(checkpoint.getInt())));
+        }
+        WeightedGraph<T> weightedGraph = isWeighted ? weighted(graph) : null;
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            int degree = checkpoint.getInt();
+            for (int i = 0; i < degree; i++) {
+                if (isWeighted) {
+                    weightedGraph.addEdge(vertex, checkpoint.getInt(), checkpoint.getInt());
+                } else {
+                    graph.addEdge(vertex, checkpoint.getInt());
+                }
+            }
+        }
+    }
+
+    private static IOException unknownRecord(byte type) {
+        return new IOException("Unknown record type " + type + " in graph log");
+    }
+
+    private static <T> WeightedGraph<T> weighted(Graph<T> graph) {
+        if (!(graph instanceof WeightedGraph)) {
+            throw new IllegalStateException("The log holds weighted edges but the graph is not weighted");
+        }
+        return (WeightedGraph<T>) graph;
+    }
+
+    /**
+     * Reads a file sequentially through a fixed size buffer, refilling it whenever a value
+     * crosses the end of the buffer.  Positions are <code>long</code>, so unlike a single
+     * mapped buffer there is no limit on the file size.
+     */
+    private static final class ChannelReader {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long filePosition;
+
+        private ChannelReader(FileChannel channel, long start, int bufferSize) {
+            if (bufferSize < 8) {
+                throw new IllegalArgumentException("Read buffer must hold at least 8 bytes");
+            }
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(bufferSize);
+            this.buffer.flip();
+            this.filePosition = start;
+        }
+
+        /**
+         * @return the file offset of the next byte to be read
+         */
+        private long position() {
+            return filePosition - buffer.remaining();
+        }
+
+        private long available() throws IOException {
+            return channel.size() - position();
+        }
+
+        private void seek(long position) {
+            filePosition = position;
+            buffer.clear().flip();
+        }
+
+        private void fill(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                int read = channel.read(buffer, filePosition);
+                if (read < 0) {
+                    throw new EOFException("Graph file ends in the middle of a record");
+                }
+                filePosition += read;
+            }
+            buffer.flip();
+        }
+
+        private byte get() throws IOException {
+            fill(1);
+            return buffer.get();
+        }
+
+        private int getInt() throws IOException {
+            fill(4);
+            return buffer.getInt();
+        }
+
+        private long getLong() throws IOException {
+            fill(8);
+            return buffer.getLong();
+        }
+
+        private byte[] getBytes(int length) throws IOException {
+            if (length < 0) {
+                throw new IOException("Negative length in graph file");
+            }
+            byte[] bytes = new byte[length];
+            int copied = 0;
+            while (copied < length) {
+                fill(1);
+                int chunk = Math.min(buffer.remaining(), length - copied);
+                buffer.get(bytes, copied, chunk);
+                copied += chunk;
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Streams the graph to a checkpoint file through a fixed size buffer.
+     */
+    private final class CheckpointWriter {
+        private final FileChannel out;
+        private ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+        private CheckpointWriter(FileChannel out) {
+            this.out = out;
+        }
+
+        private void write(long checkpointGeneration) throws IOException {
+            final boolean isWeighted = graph instanceof WeightedGraph;
+            int size = graph.size();
+            long edges = 0;
+            for (int vertex = 0; vertex < size; vertex++) {
+                edges += graph.getDegree(vertex);
+            }
+
+            buffer.putInt(CHECKPOINT_MAGIC).putLong(checkpointGeneration).put((byte) (isWeighted ? 1 : 0))
+                    .putInt(size).putLong(edges);
+            for (int vertex = 0; vertex < size; vertex++) {
+                byte[] label = codec.encode(graph.getVertex(vertex));
+                reserve(4 + label.length);
+                buffer.putInt(label.length).put(label);
+            }
+
+            final int[] row = new int[isWeighted ? 2 * size : size];
+            final int[] count = new int[1];
+            for (int vertex = 0; vertex < size; vertex++) {
+                count[0] = 0;
+                if (isWeighted) {
+                    ((WeightedGraph<?>) graph).forEachEdge(vertex, (target, weight) -> {
+                        row[count[0]++] = target;
+                        row[count[0]++] = weight;
+                    });
+                } else {
+                    graph.forEachNeighbor(vertex, target -> row[count[0]++] = target);
+                }
+                reserve(4);
+                buffer.putInt(graph.getDegree(vertex));
+                for (int i = 0; i < count[0]; i++) {
+                    reserve(4);
+                    buffer.putInt(row[i]);
+                }
+            }
+            drain();
+        }
+
+        private void reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+                if (buffer.capacity() < bytes) {
+                    buffer = ByteBuffer.allocate(bytes);
+                }
+            }
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Turns vertex labels into bytes and back.
+     */
+    public interface LabelCodec<T> {
+        byte[] encode(T label);
+
+        T decode(byte[] bytes);
+
+        static LabelCodec<String> strings() {
+            return new LabelCodec<String>() {
+                @Override
+                public byte[] encode(String label) {
+                    return label.getBytes(StandardCharsets.UTF_8);
+                }
+
+                @Override
+                public String decode(byte[] bytes) {
+                    return new String(bytes, StandardCharsets.UTF_8);
+                }
+            };
+        }
+    }
+
+    /**
+     * Creates the empty graph that recovery replays into.  The counts are what the checkpoint
+     * and log hold, so fixed capacity backends such as the matrices need extra room for the
+     * vertices added after recovery, for example through {@link GraphBuilder}.
+     */
+    public interface GraphFactory<G> {
+        G create(int vertices, long edges);
+    }
+}
@@ -0,0 +1,156 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Traversals shared by every {@link Graph} implementation.  Visited marks and queues come
+ * from a {@link TraversalWorkspace}, so the cost of a query scales with the vertices it reaches.
+ */
+public final class GraphTraversals {
+    private GraphTraversals() {
+    }
+
+    public static <T> void dfs(Graph<T> graph, int startVertex, Consumer<T> consumer) {
+        dfs(graph, startVertex, consumer, TraversalWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Depth first traversal, visiting neighbors in ascending order.  Unvisited neighbors are
+     * pushed onto an explicit stack in descending order, so the visiting order is the same as
+     * a recursive search but deep graphs do not overflow the call stack.
+     */
+    public static <T> void dfs(final Graph<T> graph, int startVertex, Consumer<T> consumer,
+                               final TraversalWorkspace workspace) {
+        validateVertex(graph, startVertex);
+        workspace.begin(graph.size());
+        try {
+            final int[][] stack = new int[][]{workspace.stack(graph.size())};
+            final int[] top = new int[]{0};
+            stack[0][top[0]++] = startVertex;
+
+            while (top[0] > 0) {
+                int vertex = stack[0][--top[0]];
+                if (!workspace.mark(vertex)) {
+                    continue;
+                }
+                consumer.accept(graph.getVertex(vertex));
+
+                int pushedFrom = top[0];
+                graph.forEachNeighbor(vertex, neighbor -> {
+                    if (!workspace.isMarked(neighbor)) {
+                        if (top[0] == stack[0].length) {
+                            stack[0] = workspace.stack(top[0] + 1);
+                        }
+                        stack[0][top[0]++] = neighbor;
+                    }
+                });
+                reverse(stack[0], pushedFrom, top[0]);
+            }
+        } finally {
+            workspace.end();
+        }
+    }
+
+    private static void reverse(int[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    public static <T> void bfs(Graph<T> graph, int startVertex, Consumer<T> consumer) {
+        bfs(graph, startVertex, consumer, TraversalWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Breadth first traversal.  Each vertex is passed to the consumer when it is first reached.
+     */
+    public static <T> void bfs(final Graph<T> graph, int startVertex, final Consumer<T> consumer,
+                               final TraversalWorkspace workspace) {
+        validateVertex(graph, startVertex);
+        workspace.begin(graph.size());
+        try {
+            final int[] queue = workspace.queue();
+            final int[] tail = new int[]{0};
+            int head = 0;
+
+            consumer.accept(graph.getVertex(startVertex));
+            workspace.mark(startVertex);
+            queue[tail[0]++] = startVertex;
+
+            while (head < tail[0]) {
+                graph.forEachNeighbor(queue[head++], neighbor -> {
+                    if (workspace.mark(neighbor)) {
+                        queue[tail[0]++] = neighbor;
+                        consumer.accept(graph.getVertex(neighbor));
+                    }
+                });
+            }
+        } finally {
+            workspace.end();
+        }
+    }
+
+    public static KHopNeighborhood kHop(Graph<?> graph, int sourceVertex, int hops, int maxVertices) {
+        return kHop(graph, sourceVertex, hops, maxVertices, TraversalWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Collects the vertices within <code>hops</code> edges of the source, grouped by hop
+     * distance.  The search stops as soon as it reaches the hop limit or has found
+     * <code>maxVertices</code> vertices, so the rest of the graph is never scanned.
+     *
+     * @param sourceVertex the vertex to start from
+     * @param hops         the maximum hop distance to include
+     * @param maxVertices  the maximum number of vertices to return, including the source
+     * @param workspace    holds the visited marks and queue
+     */
+    public static KHopNeighborhood kHop(Graph<?> graph, int sourceVertex, int hops, final int maxVertices,
+                                        final TraversalWorkspace workspace) {
+        validateVertex(graph, sourceVertex);
+        if (hops < 0 || maxVertices < 1) {
+            throw new IllegalArgumentException("Hops must not be negative and maxVertices must be positive");
+        }
+
+        workspace.begin(graph.size());
+        try {
+            final int[] queue = workspace.queue();
+            final int[] tail = new int[]{0};
+            // Every level adds at least one vertex, so the levels are bounded by the vertices too
+            int[] levelEnds = new int[Math.min(hops, Math.min(maxVertices, graph.size()) - 1) + 1];
+            int levels = 0;
+
+            workspace.mark(sourceVertex);
+            queue[tail[0]++] = sourceVertex;
+            levelEnds[levels++] = tail[0];
+
+            for (int levelStart = 0; levels <= hops && tail[0] < maxVertices; levels++) {
+                int levelEnd = tail[0];
+                for (int i = levelStart; i < levelEnd && tail[0] < maxVertices; i++) {
+                    graph.forEachNeighborWhile(queue[i], neighbor -> {
+                        if (workspace.mark(neighbor)) {
+                            queue[tail[0]++] = neighbor;
+                        }
+                        return tail[0] < maxVertices;
+                    });
+                }
+                if (tail[0] == levelEnd) {
+                    break;
+                }
+                levelEnds[levels] = tail[0];
+                levelStart = levelEnd;
+            }
+            return new KHopNeighborhood(Arrays.copyOf(queue, tail[0]), Arrays.copyOf(levelEnds, levels));
+        } finally {
+            workspace.end();
+        }
+    }
+
+    private static void validateVertex(Graph<?> graph, int vertex) {
+        if (vertex < 0 || vertex >= graph.size()) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+
+/**
+ * The vertices found by a bounded breadth first search, grouped by their hop distance from
+ * the source.  Level 0 holds only the source.
+ */
+public final class KHopNeighborhood {
+    private final int[] vertices;
+    private final int[] levelEnds;
+
+    KHopNeighborhood(int[] vertices, int[] levelEnds) {
+        this.vertices = vertices;
+        this.levelEnds = levelEnds;
+    }
+
+    /**
+     * @return the number of non-empty levels, including the source level
+     */
+    public int getLevelCount() {
+        return levelEnds.length;
+    }
+
+    /**
+     * @return the vertices exactly <code>hops</code> edges away from the source, in discovery order
+     */
+    public int[] getLevel(int hops) {
+        if (hops < 0 || hops >= levelEnds.length) {
+            throw new IllegalArgumentException("Level must be less than the level count");
+        }
+        int from = hops == 0 ? 0 : levelEnds[hops - 1];
+        return Arrays.copyOfRange(vertices, from, levelEnds[hops]);
+    }
+
+    /**
+     * @return every vertex in the neighborhood ordered by hop distance, suitable for
+     * <code>inducedSubgraph</code>
+     */
+    public int[] getVertices() {
+        return Arrays.copyOf(vertices, vertices.length);
+    }
+
+    public int size() {
+        return vertices.length;
+    }
+}
@@ -0,0 +1,134 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+
+/**
+ * Runs many breadth first searches over a {@link Graph} at once.
+ * Each source gets one bit lane of a <code>long</code> per vertex, so up to 64 searches
+ * share a single scan of the adjacency rows per level.  Larger batches are processed
+ * 64 sources at a time.
+ */
+public class MultiSourceBfs {
+    public static final int UNREACHABLE = -1;
+
+    private static final int LANES = Long.SIZE;
+
+    private final Graph<?> graph;
+
+    public MultiSourceBfs(Graph<?> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * Calculates the hop distance from every source to every vertex.
+     *
+     * @param sources the source vertex indexes, duplicates are allowed
+     * @return one row per source, indexed by vertex, with {@link #UNREACHABLE} for
+     * vertices the source cannot reach
+     */
+    public int[][] distances(int... sources) {
+        final int[][] distances = new int[sources.length][graph.size()];
+        for (int[] row : distances) {
+            Arrays.fill(row, UNREACHABLE);
+        }
+
+        run(sources, (batchStart, vertex, lanes, level) -> {
+            while (lanes != 0) {
+                distances[batchStart + Long.numberOfTrailingZeros(lanes)][vertex] = level;
+                lanes &= lanes - 1;
+            }
+        });
+        return distances;
+    }
+
+    /**
+     * Calculates, for every source, the sum of the hop distances to all vertices it can reach.
+     * This is the denominator of closeness centrality.
+     *
+     * @param sources the source vertex indexes, duplicates are allowed
+     * @return the distance sum for each source, in the same order as <code>sources</code>
+     */
+    public long[] distanceSums(int... sources) {
+        final long[] sums = new long[sources.length];
+        run(sources, (batchStart, vertex, lanes, level) -> {
+            while (lanes != 0) {
+                sums[batchStart + Long.numberOfTrailingZeros(lanes)] += level;
+                lanes &= lanes - 1;
+            }
+        });
+        return sums;
+    }
+
+    /**
+     * Calculates, for every source, the number of vertices it can reach including itself.
+     *
+     * @param sources the source vertex indexes, duplicates are allowed
+     * @return the reachable vertex count for each source, in the same order as <code>sources</code>
+     */
+    public int[] reachableCounts(int... sources) {
+        final int[] counts = new int[sources.length];
+        run(sources, (batchStart, vertex, lanes, level) -> {
+            while (lanes != 0) {
+                counts[batchStart + Long.numberOfTrailingZeros(lanes)]++;
+                lanes &= lanes - 1;
+            }
+        });
+        return counts;
+    }
+
+    private void run(int[] sources, LaneVisitor visitor) {
+        int size = graph.size();
+        for (int source : sources) {
+            if (source < 0 || source >= size) {
+                throw new IllegalArgumentException("Source must be within the size of the graph");
+            }
+        }
+
+        long[] seen = new long[size];
+        long[] visit = new long[size];
+        final long[] visitNext = new long[size];
+
+        for (int batchStart = 0; batchStart < sources.length; batchStart += LANES) {
+            int lanes = Math.min(LANES, sources.length - batchStart);
+            Arrays.fill(seen, 0L);
+            Arrays.fill(visit, 0L);
+
+            for (int lane = 0; lane < lanes; lane++) {
+                int source = sources[batchStart + lane];
+                seen[source] |= 1L << lane;
+                visit[source] |= 1L << lane;
+            }
+            for (int vertex = 0; vertex < size; vertex++) {
+                if (visit[vertex] != 0) {
+                    visitor.reached(batchStart, vertex, visit[vertex], 0);
+                }
+            }
+
+            boolean active = true;
+            for (int level = 1; active; level++) {
+                for (int vertex = 0; vertex < size; vertex++) {
+                    final long vertexLanes = visit[vertex];
+                    if (vertexLanes != 0) {
+                        graph.forEachNeighbor(vertex, neighbor -> visitNext[neighbor] |= vertexLanes);
+                    }
+                }
+
+                active = false;
+                for (int vertex = 0; vertex < size; vertex++) {
+                    long newlyReached = visitNext[vertex] & ~seen[vertex];
+                    visitNext[vertex] = 0;
+                    visit[vertex] = newlyReached;
+                    if (newlyReached != 0) {
+                        seen[vertex] |= newlyReached;
+                        visitor.reached(batchStart, vertex, newlyReached, level);
+                        active = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private interface LaneVisitor {
+        void reached(int batchStart, int vertex, long lanes, int level);
+    }
+}
@@ -0,0 +1,270 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Common neighbor and triangle counting over any {@link Graph}.  Edge
+ * direction and self loops are ignored, so two vertices are neighbors when an edge runs
+ * either way between them.
+ * <p>
+ * Every vertex keeps a sorted neighbor array.  Vertices whose degree is at least the number
+ * of 64 bit words in a row also keep a packed bit row, and each intersection picks the
+ * cheapest of AND plus popcount over two bit rows, probing the shorter list against a bit
+ * row, or merging two sorted arrays.
+ */
+public class NeighborIntersection {
+    private static final int CHUNK_SIZE = 256;
+
+    private final int[][] neighbors;
+    private final long[][] bits;
+    private final int words;
+    private final ForkJoinPool pool;
+
+    public NeighborIntersection(Graph<?> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public NeighborIntersection(Graph<?> graph, ForkJoinPool pool) {
+        int size = graph.size();
+        this.pool = pool;
+        this.words = (size + 63) >>> 6;
+        this.neighbors = new int[size][];
+        this.bits = new long[size][];
+
+        // Out-neighbors first, then in-neighbors, followed by a sort that drops duplicates.
+        final int[] counts = new int[size];
+        for (int vertex = 0; vertex < size; vertex++) {
+            final int source = vertex;
+            graph.forEachNeighbor(vertex, target -> {
+                if (target != source) {
+                    counts[source]++;
+                    counts[target]++;
+                }
+            });
+        }
+        for (int vertex = 0; vertex < size; vertex++) {
+            neighbors[vertex] = new int[counts[vertex]];
+        }
+        Arrays.fill(counts, 0);
+        for (int vertex = 0; vertex < size; vertex++) {
+            final int source = vertex;
+            graph.forEachNeighbor(vertex, target -> {
+                if (target != source) {
+                    neighbors[source][counts[source]++] = target;
+                    neighbors[target][counts[target]++] = source;
+                }
+            });
+        }
+
+        for (int vertex = 0; vertex < size; vertex++) {
+            int[] row = neighbors[vertex];
+            Arrays.sort(row);
+            int count = 0;
+            for (int i = 0; i < row.length; i++) {
+                if (i == 0 || row[i] != row[i - 1]) {
+                    row[count++] = row[i];
+                }
+            }
+            neighbors[vertex] = Arrays.copyOf(row, count);
+
+            if (count > 0 && count >= words) {
+                long[] packed = new long[words];
+                for (int i = 0; i < count; i++) {
+                    packed[row[i] >>> 6] |= 1L << row[i];
+                }
+                bits[vertex] = packed;
+            }
+        }
+    }
+
+    public int getDegree(int vertex) {
+        validateVertex(vertex);
+        return neighbors[vertex].length;
+    }
+
+    public int commonNeighborCount(int firstVertex, int secondVertex) {
+        validateVertex(firstVertex);
+        validateVertex(secondVertex);
+        return countCommonAbove(firstVertex, secondVertex, -1);
+    }
+
+    /**
+     * @return the number of triangles that include the vertex
+     */
+    public long triangleCount(int vertex) {
+        validateVertex(vertex);
+        long count = 0;
+        for (int neighbor : neighbors[vertex]) {
+            count += countCommonAbove(vertex, neighbor, neighbor);
+        }
+        return count;
+    }
+
+    /**
+     * Counts the triangles of every vertex in parallel.
+     *
+     * @return the number of triangles that include each vertex
+     */
+    public long[] triangleCounts() {
+        final long[] counts = new long[neighbors.length];
+        pool.invoke(new PerVertexTask(counts, 0, neighbors.length));
+        return counts;
+    }
+
+    /**
+     * Counts every triangle in the graph once, in parallel.  Each triangle is found from its
+     * lowest vertex along the edge to its middle vertex.
+     */
+    public long triangleCount() {
+        return pool.invoke(new GlobalTask(0, neighbors.length));
+    }
+
+    /**
+     * @return the fraction of pairs of neighbors of the vertex that are neighbors themselves
+     */
+    public double clusteringCoefficient(int vertex) {
+        long degree = getDegree(vertex);
+        if (degree < 2) {
+            return 0;
+        }
+        return 2.0 * triangleCount(vertex) / (degree * (degree - 1));
+    }
+
+    /**
+     * Counts the common neighbors of two vertices with an index greater than <code>floor</code>.
+     */
+    private int countCommonAbove(int firstVertex, int secondVertex, int floor) {
+        int[] first = neighbors[firstVertex];
+        int[] second = neighbors[secondVertex];
+        long[] firstBits = bits[firstVertex];
+        long[] secondBits = bits[secondVertex];
+
+        if (firstBits != null && secondBits != null && first.length + second.length > words) {
+            return andCount(firstBits, secondBits, floor + 1);
+        }
+        if (first.length > second.length) {
+            int[] swap = first;
+            first = second;
+            second = swap;
+            long[] swapBits = firstBits;
+            firstBits = secondBits;
+            secondBits = swapBits;
+        }
+        if (secondBits != null) {
+            return probeCount(first, secondBits, floor);
+        }
+        return mergeCount(first, second, floor);
+    }
+
+    private int andCount(long[] first, long[] second, int from) {
+        if (from >= words << 6) {
+            return 0;
+        }
+        int word = from >>> 6;
+        int count = Long.bitCount(first[word] & second[word] & (-1L << from));
+        for (word++; word < words; word++) {
+            count += Long.bitCount(first[word] & second[word]);
+        }
+        return count;
+    }
+
+    private static int probeCount(int[] list, long[] bitRow, int floor) {
+        int count = 0;
+        for (int i = firstAbove(list, floor); i < list.length; i++) {
+            if ((bitRow[list[i] >>> 6] & (1L << list[i])) != 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int mergeCount(int[] first, int[] second, int floor) {
+        int count = 0;
+        int i = firstAbove(first, floor);
+        int j = firstAbove(second, floor);
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static int firstAbove(int[] sorted, int floor) {
+        int index = Arrays.binarySearch(sorted, floor);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private void validateVertex(int vertex) {
+        if (vertex < 0 || vertex >= neighbors.length) {
+            throw new IllegalArgumentException("Vertex must be within the size of the graph");
+        }
+    }
+
+    private final class PerVertexTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] counts;
+        private final int from;
+        private final int to;
+
+        private PerVertexTask(long[] counts, int from, int to) {
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PerVertexTask(counts, from, middle), new PerVertexTask(counts, middle, to));
+                return;
+            }
+            for (int vertex = from; vertex < to; vertex++) {
+                counts[vertex] = triangleCount(vertex);
+            }
+        }
+    }
+
+    private final class GlobalTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        private GlobalTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                GlobalTask left = new GlobalTask(from, middle);
+                left.fork();
+                long right = new GlobalTask(middle, to).compute();
+                return left.join() + right;
+            }
+
+            long count = 0;
+            for (int vertex = from; vertex < to; vertex++) {
+                int[] row = neighbors[vertex];
+                for (int i = firstAbove(row, vertex); i < row.length; i++) {
+                    count += countCommonAbove(vertex, row[i], row[i]);
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Power iteration PageRank over any {@link Graph}.  The in-edges are gathered once
+ * into compressed rows, then every iteration pulls rank from the in-neighbors of each
+ * vertex in parallel chunks on a {@link ForkJoinPool}, writing into the second of two rank
+ * buffers.  Rank held by vertices without out-edges is spread evenly over all vertices.
+ */
+public class PageRank {
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final double DEFAULT_TOLERANCE = 1e-9;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private final double damping;
+    private final double tolerance;
+    private final int maxIterations;
+    private final ForkJoinPool pool;
+
+    public PageRank() {
+        this(DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    public PageRank(double damping, double tolerance, int maxIterations) {
+        this(damping, tolerance, maxIterations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param damping       probability of following an edge rather than jumping to a random vertex
+     * @param tolerance     iteration stops once the L1 change in ranks falls below this value
+     * @param maxIterations iteration stops after this many rounds even if not converged
+     * @param pool          the pool that runs the per-vertex chunks
+     */
+    public PageRank(double damping, double tolerance, int maxIterations, ForkJoinPool pool) {
+        if (damping < 0 || damping > 1) {
+            throw new IllegalArgumentException("Damping must be between 0 and 1");
+        }
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("At least one iteration is required");
+        }
+        this.damping = damping;
+        this.tolerance = tolerance;
+        this.maxIterations = maxIterations;
+        this.pool = pool;
+    }
+
+    /**
+     * Ranks an unweighted graph, where every out-edge of a vertex gets an equal share of its rank.
+     */
+    public Result compute(Graph<?> graph) {
+        int size = graph.size();
+        final int[] inCounts = new int[size + 1];
+        final double[] outShares = new double[size];
+        for (int source = 0; source < size; source++) {
+            int outDegree = graph.getDegree(source);
+            outShares[source] = outDegree == 0 ? 0 : 1.0 / outDegree;
+            graph.forEachNeighbor(source, target -> inCounts[target + 1]++);
+        }
+
+        final InEdges inEdges = new InEdges(inCounts, outShares);
+        for (int source = 0; source < size; source++) {
+            final int from = source;
+            graph.forEachNeighbor(source, target -> inEdges.add(from, target, outShares[from]));
+        }
+        return iterate(inEdges);
+    }
+
+    /**
+     * Ranks a weighted graph, where every out-edge of a vertex gets a share of its rank
+     * proportional to the edge weight.  A vertex whose out-edges weigh 0 in total is
+     * treated as having no out-edges.
+     *
+     * @throws IllegalArgumentException if any weight is negative
+     */
+    public Result compute(WeightedGraph<?> graph) {
+        int size = graph.size();
+        final int[] inCounts = new int[size + 1];
+        final double[] outWeights = new double[size];
+        for (int source = 0; source < size; source++) {
+            final int from = source;
+            graph.forEachEdge(source, (target, weight) -> {
+                if (weight < 0) {
+                    throw new IllegalArgumentException("Weights must not be negative");
+                }
+                outWeights[from] += weight;
+            });
+        }
+        for (int source = 0; source < size; source++) {
+            if (outWeights[source] > 0) {
+                graph.forEachNeighbor(source, target -> inCounts[target + 1]++);
+            }
+        }
+
+        final InEdges inEdges = new InEdges(inCounts, outWeights);
+        for (int source = 0; source < size; source++) {
+            final int from = source;
+            if (outWeights[from] > 0) {
+                graph.forEachEdge(source, (target, weight) -> inEdges.add(from, target, weight / outWeights[from]));
+            }
+        }
+        return iterate(inEdges);
+    }
+
+    private Result iterate(InEdges inEdges) {
+        int size = inEdges.offsets.length - 1;
+        if (size == 0) {
+            return new Result(new double[0], 0, true);
+        }
+
+        double[] ranks = new double[size];
+        double[] next = new double[size];
+        Arrays.fill(ranks, 1.0 / size);
+
+        int iteration = 0;
+        boolean converged = false;
+        while (iteration < maxIterations && !converged) {
+            double danglingRank = 0;
+            for (int vertex : inEdges.dangling) {
+                danglingRank += ranks[vertex];
+            }
+            double base = (1 - damping) / size + damping * danglingRank / size;
+
+            double delta = pool.invoke(new PullTask(inEdges, ranks, next, base, 0, size));
+            double[] swap = ranks;
+            ranks = next;
+            next = swap;
+
+            iteration++;
+            converged = delta < tolerance;
+        }
+        return new Result(ranks, iteration, converged);
+    }
+
+    /**
+     * In-edges in compressed row form: the sources pointing at vertex <code>v</code> are
+     * <code>sources[offsets[v]]</code> up to <code>sources[offsets[v + 1]]</code>, each with
+     * the fraction of its rank it sends along that edge.
+     */
+    private static final class InEdges {
+        private final int[] offsets;
+        private final int[] sources;
+        private final double[] shares;
+        private final int[] fill;
+        private final int[] dangling;
+
+        private InEdges(int[] counts, double[] outTotals) {
+            int size = counts.length - 1;
+            for (int vertex = 0; vertex < size; vertex++) {
+                counts[vertex + 1] += counts[vertex];
+            }
+            offsets = counts;
+            sources = new int[counts[size]];
+            shares = new double[counts[size]];
+            fill = Arrays.copyOf(counts, size);
+
+            int danglingCount = 0;
+            int[] danglingVertices = new int[size];
+            for (int vertex = 0; vertex < size; vertex++) {
+                if (outTotals[vertex] <= 0) {
+                    danglingVertices[danglingCount++] = vertex;
+                }
+            }
+            dangling = Arrays.copyOf(danglingVertices, danglingCount);
+        }
+
+        private void add(int source, int target, double share) {
+            int index = fill[target]++;
+            sources[index] = source;
+            shares[index] = share;
+        }
+    }
+
+    /**
+     * Computes the next rank for a range of vertices and returns the L1 change for that range.
+     */
+    private final class PullTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        private final InEdges inEdges;
+        private final double[] ranks;
+        private final double[] next;
+        private final double base;
+        private final int from;
+        private final int to;
+
+        private PullTask(InEdges inEdges, double[] ranks, double[] next, double base, int from, int to) {
+            this.inEdges = inEdges;
+            this.ranks = ranks;
+            this.next = next;
+            this.base = base;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                PullTask left = new PullTask(inEdges, ranks, next, base, from, middle);
+                PullTask right = new PullTask(inEdges, ranks, next, base, middle, to);
+                left.fork();
+                double rightDelta = right.compute();
+                return left.join() + rightDelta;
+            }
+
+            double delta = 0;
+            for (int vertex = from; vertex < to; vertex++) {
+                double pulled = 0;
+                for (int edge = inEdges.offsets[vertex]; edge < inEdges.offsets[vertex + 1]; edge++) {
+                    pulled += ranks[inEdges.sources[edge]] * inEdges.shares[edge];
+                }
+                next[vertex] = base + damping * pulled;
+                delta += Math.abs(next[vertex] - ranks[vertex]);
+            }
+            return delta;
+        }
+    }
+
+    public static final class Result {
+        private final double[] ranks;
+        private final int iterations;
+        private final boolean converged;
+
+        private Result(double[] ranks, int iterations, boolean converged) {
+            this.ranks = ranks;
+            this.iterations = iterations;
+            this.converged = converged;
+        }
+
+        /**
+         * @return the rank of every vertex, summing to 1
+         */
+        public double[] getRanks() {
+            return Arrays.copyOf(ranks, ranks.length);
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public boolean isConverged() {
+            return converged;
+        }
+    }
+}
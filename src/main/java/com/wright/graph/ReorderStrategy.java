@@ -0,0 +1,168 @@
+package com.wright.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Vertex relabeling strategies used by the graph <code>reorder</code> operations.  Placing
+ * vertices that are visited together next to each other keeps neighbor scans and distance
+ * array updates within a small window of memory.
+ * <p>
+ * Edge direction is ignored when computing an ordering.
+ */
+public enum ReorderStrategy {
+    /**
+     * Reverse Cuthill-McKee, which reduces the bandwidth of the adjacency matrix so that
+     * neighbors have nearby indexes.
+     */
+    REVERSE_CUTHILL_MCKEE {
+        @Override
+        int[] order(int[][] neighbors) {
+            int[][] undirected = undirected(neighbors);
+            int[] order = breadthFirstOrder(undirected, true);
+            for (int i = 0, j = order.length - 1; i < j; i++, j--) {
+                int swap = order[i];
+                order[i] = order[j];
+                order[j] = swap;
+            }
+            return order;
+        }
+    },
+
+    /**
+     * Highest degree first, so the hub vertices that most traversals touch share cache lines.
+     */
+    DEGREE_DESCENDING {
+        @Override
+        int[] order(int[][] neighbors) {
+            final int[][] undirected = undirected(neighbors);
+            Integer[] vertices = new Integer[undirected.length];
+            for (int i = 0; i < vertices.length; i++) {
+                vertices[i] = i;
+            }
+            Arrays.sort(vertices, Comparator.comparingInt((Integer vertex) -> -undirected[vertex].length));
+
+            int[] order = new int[vertices.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = vertices[i];
+            }
+            return order;
+        }
+    },
+
+    /**
+     * Breadth first visit order, starting each component at its lowest index.
+     */
+    BFS {
+        @Override
+        int[] order(int[][] neighbors) {
+            return breadthFirstOrder(undirected(neighbors), false);
+        }
+    };
+
+    /**
+     * Computes the new vertex order.
+     *
+     * @param neighbors the out-neighbors of every vertex
+     * @return the old index of the vertex placed at each new index
+     */
+    abstract int[] order(int[][] neighbors);
+
+    /**
+     * Converts a list of new-to-old indexes into the old-to-new mapping returned to callers.
+     */
+    static int[] invert(int[] order) {
+        int[] mapping = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            mapping[order[i]] = i;
+        }
+        return mapping;
+    }
+
+    private static int[][] undirected(int[][] neighbors) {
+        List<List<Integer>> lists = new ArrayList<>();
+        for (int i = 0; i < neighbors.length; i++) {
+            lists.add(new ArrayList<>());
+        }
+        for (int vertex = 0; vertex < neighbors.length; vertex++) {
+            for (int neighbor : neighbors[vertex]) {
+                if (neighbor != vertex) {
+                    lists.get(vertex).add(neighbor);
+                    lists.get(neighbor).add(vertex);
+                }
+            }
+        }
+
+        int[][] undirected = new int[neighbors.length][];
+        for (int vertex = 0; vertex < neighbors.length; vertex++) {
+            int[] row = new int[lists.get(vertex).size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = lists.get(vertex).get(i);
+            }
+            Arrays.sort(row);
+
+            int distinct = 0;
+            for (int i = 0; i < row.length; i++) {
+                if (i == 0 || row[i] != row[i - 1]) {
+                    row[distinct++] = row[i];
+                }
+            }
+            undirected[vertex] = Arrays.copyOf(row, distinct);
+        }
+        return undirected;
+    }
+
+    /**
+     * Breadth first order over every component.  When <code>byDegree</code> is set each
+     * component starts at its lowest degree vertex and neighbors are queued in ascending
+     * degree, as Cuthill-McKee requires.
+     */
+    private static int[] breadthFirstOrder(final int[][] undirected, boolean byDegree) {
+        int size = undirected.length;
+        int[] order = new int[size];
+        boolean[] marked = new boolean[size];
+        int head = 0;
+        int tail = 0;
+
+        Integer[] starts = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = i;
+        }
+        Comparator<Integer> byDegreeAscending = Comparator.comparingInt((Integer vertex) -> undirected[vertex].length);
+        if (byDegree) {
+            Arrays.sort(starts, byDegreeAscending);
+        }
+
+        for (int start : starts) {
+            if (marked[start]) {
+                continue;
+            }
+            marked[start] = true;
+            order[tail++] = start;
+
+            while (head < tail) {
+                int vertex = order[head++];
+                int firstQueued = tail;
+                for (int neighbor : undirected[vertex]) {
+                    if (!marked[neighbor]) {
+                        marked[neighbor] = true;
+                        order[tail++] = neighbor;
+                    }
+                }
+                if (byDegree) {
+                    Integer[] queued = new Integer[tail - firstQueued];
+                    for (int i = 0; i < queued.length; i++) {
+                        queued[i] = order[firstQueued + i];
+                    }
+                    Arrays.sort(queued, byDegreeAscending);
+                    for (int i = 0; i < queued.length; i++) {
+                        order[firstQueued + i] = queued[i];
+                    }
+                }
+            }
+        }
+        return order;
+    }
+}
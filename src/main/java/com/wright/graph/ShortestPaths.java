@@ -0,0 +1,133 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+
+/**
+ * Dijkstra's algorithm over any {@link WeightedGraph}.  Weights must not be negative.
+ */
+public final class ShortestPaths {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private ShortestPaths() {
+    }
+
+    public static DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper calculateAllShortestPaths(
+            WeightedGraph<?> graph, int sourceVertex) {
+        return calculateAllShortestPaths(graph, sourceVertex, TraversalWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Calculates the distance and predecessor of every vertex, keeping the settled set in the
+     * given workspace.  Among vertices at the same distance the highest index is settled
+     * first.  Vertices that cannot be reached keep a distance and predecessor of
+     * {@link Integer#MAX_VALUE}.
+     */
+    public static DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper calculateAllShortestPaths(
+            WeightedGraph<?> graph, int sourceVertex, final TraversalWorkspace workspace) {
+        int size = graph.size();
+        if (sourceVertex < 0 || sourceVertex >= size) {
+            throw new IllegalArgumentException("Source and target must be within the size of the graph");
+        }
+
+        final int[] distances = new int[size];
+        final int[] predecessors = new int[size];
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, INFINITY);
+        distances[sourceVertex] = 0;
+        predecessors[sourceVertex] = 0;
+
+        final LongMinHeap queue = new LongMinHeap(16);
+        queue.add(key(0, sourceVertex));
+
+        workspace.begin(size);
+        try {
+            while (!queue.isEmpty()) {
+                final int next = vertexOf(queue.poll());
+                if (!workspace.mark(next)) {
+                    continue;
+                }
+
+                graph.forEachEdge(next, (neighbor, weight) -> {
+                    long sum = (long) distances[next] + weight;
+                    if (workspace.isMarked(neighbor) || sum >= INFINITY) {
+                        return;
+                    }
+                    if (sum < distances[neighbor]) {
+                        predecessors[neighbor] = next;
+                        distances[neighbor] = (int) sum;
+                        queue.add(key((int) sum, neighbor));
+                    }
+                });
+            }
+        } finally {
+            workspace.end();
+        }
+
+        return new DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper(sourceVertex, distances, predecessors);
+    }
+
+    /**
+     * Orders by distance, then by descending vertex index.
+     */
+    private static long key(int distance, int vertex) {
+        return ((long) distance << 32) | (INFINITY - vertex);
+    }
+
+    private static int vertexOf(long key) {
+        return INFINITY - (int) key;
+    }
+
+    /**
+     * Binary min-heap of primitive keys, so queue entries are never boxed.
+     */
+    private static final class LongMinHeap {
+        private long[] keys;
+        private int size = 0;
+
+        private LongMinHeap(int capacity) {
+            keys = new long[capacity];
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void add(long key) {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int index = size++;
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[index] = keys[parent];
+                index = parent;
+            }
+            keys[index] = key;
+        }
+
+        private long poll() {
+            long top = keys[0];
+            long last = keys[--size];
+            int index = 0;
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= last) {
+                    break;
+                }
+                keys[index] = keys[child];
+                index = child;
+            }
+            keys[index] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+
+/**
+ * Scratch buffers for graph traversals that are kept between queries.  Visited marks are
+ * epoch stamps: starting a traversal bumps the epoch instead of clearing the array, so a
+ * query only pays for the vertices it actually touches.
+ * <p>
+ * A workspace grows to the largest graph it has been used with and must not be shared by
+ * threads running at the same time.  {@link #forCurrentThread()} hands out one pooled
+ * workspace per thread.
+ */
+public final class TraversalWorkspace {
+    private static final ThreadLocal<TraversalWorkspace> POOL = ThreadLocal.withInitial(TraversalWorkspace::new);
+
+    private int[] stamps;
+    private int[] queue;
+    private int[] stack;
+    private int epoch = 0;
+    private boolean inUse = false;
+
+    public TraversalWorkspace() {
+        this(16);
+    }
+
+    public TraversalWorkspace(int capacity) {
+        stamps = new int[capacity];
+        queue = new int[capacity];
+        stack = new int[capacity];
+    }
+
+    /**
+     * @return the pooled workspace of the calling thread, or a new one if a traversal on
+     * this thread is already using it
+     */
+    public static TraversalWorkspace forCurrentThread() {
+        TraversalWorkspace workspace = POOL.get();
+        return workspace.inUse ? new TraversalWorkspace() : workspace;
+    }
+
+    public int getCapacity() {
+        return stamps.length;
+    }
+
+    /**
+     * Starts a traversal over a graph of the given size, leaving every vertex unmarked.
+     */
+    void begin(int size) {
+        if (inUse) {
+            throw new IllegalStateException("Workspace is already in use by another traversal");
+        }
+        inUse = true;
+
+        if (stamps.length < size) {
+            int capacity = Math.max(size, stamps.length * 2);
+            stamps = new int[capacity];
+            queue = new int[capacity];
+            epoch = 0;
+        }
+        if (++epoch == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    void end() {
+        inUse = false;
+    }
+
+    /**
+     * Marks the vertex as visited in the current traversal.
+     *
+     * @return <code>true</code> if the vertex was not marked yet
+     */
+    boolean mark(int vertex) {
+        if (stamps[vertex] == epoch) {
+            return false;
+        }
+        stamps[vertex] = epoch;
+        return true;
+    }
+
+    boolean isMarked(int vertex) {
+        return stamps[vertex] == epoch;
+    }
+
+    /**
+     * @return a queue buffer with room for every vertex of the current graph
+     */
+    int[] queue() {
+        return queue;
+    }
+
+    /**
+     * @return a stack buffer of at least the given length, keeping the current contents
+     */
+    int[] stack(int length) {
+        if (stack.length < length) {
+            stack = Arrays.copyOf(stack, Math.max(length, stack.length * 2));
+        }
+        return stack;
+    }
+}
@@ -0,0 +1,140 @@
+package com.wright.graph;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * A {@link DirectedGraphAdjacencyMatrix} that can be read while it is being written.
+ * <p>
+ * Writers never change a published version.  Each batch of updates copies only the rows it
+ * touches, shares every other row with the previous version and then publishes the result
+ * with a single volatile write.  Readers call {@link #snapshot()} to pin the current version
+ * without locking and can run any query on it while new versions are published.  A version
+ * is reclaimed by the garbage collector once no snapshot refers to it.
+ * <p>
+ * Writers are serialized with each other.
+ */
+public class VersionedDirectedGraph<T> {
+    private final int max;
+    private final Object[] labels;
+    private final Object writeLock = new Object();
+    private volatile Version current;
+
+    public VersionedDirectedGraph(int max) {
+        this.max = max;
+        this.labels = new Object[max];
+
+        // Every row starts out as the same empty row; it is copied on the first write.
+        boolean[] emptyRow = new boolean[max];
+        boolean[][] rows = new boolean[max][];
+        Arrays.fill(rows, emptyRow);
+        this.current = new Version(0, rows, 0);
+    }
+
+    /**
+     * Pins the current version.  The returned graph never changes and rejects updates.
+     */
+    public DirectedGraphAdjacencyMatrix<T> snapshot() {
+        Version version = current;
+        return new DirectedGraphAdjacencyMatrix<>(labels, version.rows, version.size);
+    }
+
+    /**
+     * @return the number of the latest published version, which increases with every batch
+     */
+    public long getVersion() {
+        return current.number;
+    }
+
+    public int size() {
+        return current.size;
+    }
+
+    public void addVertex(final T data) {
+        applyBatch(batch -> batch.addVertex(data));
+    }
+
+    public void addEdge(final int sourceVertex, final int targetVertex) {
+        applyBatch(batch -> batch.addEdge(sourceVertex, targetVertex));
+    }
+
+    /**
+     * Applies a group of updates as one new version.  Readers see either none or all of the
+     * updates, and nothing is published if the updates throw.
+     */
+    public void applyBatch(Consumer<Batch<T>> updates) {
+        synchronized (writeLock) {
+            Version base = current;
+            Writer writer = new Writer(base);
+            updates.accept(writer);
+            if (writer.changed) {
+                current = new Version(base.number + 1, writer.rows, writer.size);
+            }
+        }
+    }
+
+    public interface Batch<T> {
+        /**
+         * @return the index of the new vertex
+         */
+        int addVertex(T data);
+
+        void addEdge(int sourceVertex, int targetVertex);
+    }
+
+    private static final class Version {
+        private final long number;
+        private final boolean[][] rows;
+        private final int size;
+
+        private Version(long number, boolean[][] rows, int size) {
+            this.number = number;
+            this.rows = rows;
+            this.size = size;
+        }
+    }
+
+    private final class Writer implements Batch<T> {
+        private boolean[][] rows;
+        private boolean[] copied;
+        private int size;
+        private boolean changed = false;
+
+        private Writer(Version base) {
+            this.rows = base.rows;
+            this.size = base.size;
+        }
+
+        @Override
+        public int addVertex(T data) {
+            if (size == max) {
+                throw new IllegalArgumentException("Graph is full");
+            }
+            // Slots past the published size are never read, so the label can be written in place.
+            labels[size] = data;
+            changed = true;
+            return size++;
+        }
+
+        @Override
+        public void addEdge(int sourceVertex, int targetVertex) {
+            if (sourceVertex < 0 || sourceVertex >= size || targetVertex < 0 || targetVertex >= size) {
+                throw new IllegalArgumentException("Invalid edge index");
+            }
+            if (rows[sourceVertex][targetVertex]) {
+                return;
+            }
+
+            if (copied == null) {
+                rows = rows.clone();
+                copied = new boolean[max];
+            }
+            if (!copied[sourceVertex]) {
+                rows[sourceVertex] = rows[sourceVertex].clone();
+                copied[sourceVertex] = true;
+            }
+            rows[sourceVertex][targetVertex] = true;
+            changed = true;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.wright.graph;
+
+/**
+ * A {@link Graph} with an <code>int</code> weight on every edge.  Missing edges have a
+ * weight of {@link Integer#MAX_VALUE}.
+ */
+public interface WeightedGraph<T> extends Graph<T> {
+    void addEdge(int sourceVertex, int targetVertex, int weight);
+
+    /**
+     * Adds an edge with a weight of 1.
+     */
+    @Override
+    default void addEdge(int sourceVertex, int targetVertex) {
+        addEdge(sourceVertex, targetVertex, 1);
+    }
+
+    int getWeightForEdge(int sourceVertex, int targetVertex);
+
+    /**
+     * Passes every edge leaving the vertex, in ascending order of target.
+     */
+    void forEachEdge(int vertex, EdgeConsumer consumer);
+
+    interface EdgeConsumer {
+        void accept(int targetVertex, int weight);
+    }
+}
@@ -0,0 +1,123 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestCompressedDirectedGraph {
+    private static DirectedGraphAdjacencyMatrix<String> createGraph() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(6);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+        graph.addVertex("Palm Springs");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(0, 3);
+        graph.addEdge(1, 0);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 4);
+        graph.addEdge(4, 2);
+        graph.addEdge(4, 3);
+        graph.addEdge(5, 0);
+        return graph;
+    }
+
+    @Test
+    public void testFrom() {
+        CompressedDirectedGraph<String> graph = CompressedDirectedGraph.from(createGraph());
+
+        assertEquals(6, graph.size());
+        assertEquals("Boston", graph.getVertex(0));
+        assertEquals("Palm Springs", graph.getVertex(5));
+        assertArrayEquals(new int[]{1, 2, 3}, graph.getNeighbors(0));
+        assertArrayEquals(new int[]{0}, graph.getNeighbors(1));
+        assertArrayEquals(new int[]{0, 4}, graph.getNeighbors(2));
+        assertArrayEquals(new int[]{}, graph.getNeighbors(3));
+        assertArrayEquals(new int[]{2, 3}, graph.getNeighbors(4));
+        assertArrayEquals(new int[]{0}, graph.getNeighbors(5));
+        assertEquals(Set.of(2, 3), graph.getNeighborsForVertex(4));
+        assertEquals(2, graph.getDegree(2));
+    }
+
+    @Test
+    public void testHasEdge() {
+        CompressedDirectedGraph<String> graph = CompressedDirectedGraph.from(createGraph());
+
+        assertTrue(graph.hasEdge(0, 3));
+        assertTrue(graph.hasEdge(5, 0));
+        assertFalse(graph.hasEdge(0, 4));
+        assertFalse(graph.hasEdge(3, 0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testReadOnly() {
+        CompressedDirectedGraph.from(createGraph()).addEdge(3, 0);
+    }
+
+    @Test
+    public void testBuilderWithLargeGaps() {
+        CompressedDirectedGraph.Builder<Integer> builder = new CompressedDirectedGraph.Builder<>(2);
+        for (int vertex = 0; vertex < 100000; vertex++) {
+            if (vertex == 50000) {
+                builder.addVertex(vertex, 99999, 0, 70000, 70000, 49999);
+            } else {
+                builder.addVertex(vertex);
+            }
+        }
+        CompressedDirectedGraph<Integer> graph = builder.build();
+
+        assertArrayEquals(new int[]{0, 49999, 70000, 99999}, graph.getNeighbors(50000));
+        assertArrayEquals(new int[]{}, graph.getNeighbors(99999));
+        assertEquals(Integer.valueOf(50000), graph.getVertex(50000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuilderWithMissingNeighbor() {
+        CompressedDirectedGraph.Builder<String> builder = new CompressedDirectedGraph.Builder<>(2);
+        builder.addVertex("Boston", 1);
+        builder.build();
+    }
+
+    @Test
+    public void testDfs() {
+        DirectedGraphAdjacencyMatrix<String> matrix = createGraph();
+        List<String> expected = new ArrayList<>();
+        matrix.dfs(5, expected::add);
+
+        List<String> actual = new ArrayList<>();
+        CompressedDirectedGraph.from(matrix).dfs(5, actual::add);
+        assertEquals(expected, actual);
+        assertEquals(List.of("Palm Springs", "Boston", "Philadelphia", "Hartford", "Baltimore", "Newark"), actual);
+    }
+
+    @Test
+    public void testBfs() {
+        List<String> actual = new ArrayList<>();
+        CompressedDirectedGraph.from(createGraph()).bfs(5, actual::add);
+        assertEquals(List.of("Palm Springs", "Boston", "Philadelphia", "Hartford", "Newark", "Baltimore"), actual);
+    }
+
+    @Test
+    public void testDeepDfs() {
+        CompressedDirectedGraph.Builder<Integer> builder = new CompressedDirectedGraph.Builder<>(100000);
+        for (int vertex = 0; vertex < 99999; vertex++) {
+            builder.addVertex(vertex, vertex + 1);
+        }
+        builder.addVertex(99999, 0);
+
+        final int[] count = new int[]{0};
+        builder.build().dfs(0, vertex -> count[0]++);
+        assertEquals(100000, count[0]);
+    }
+}
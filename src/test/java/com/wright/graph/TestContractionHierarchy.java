@@ -0,0 +1,112 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.io.*;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TestContractionHierarchy {
+    private static DirectedWeightedGraphAdjacencyMatrix<String> createGraph() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(7);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+        graph.addVertex("V5");
+        graph.addVertex("V6");
+
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 5, 9);
+        graph.addEdge(1, 5, 6);
+        graph.addEdge(1, 3, 15);
+        graph.addEdge(1, 2, 8);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 2, 7);
+        graph.addEdge(4, 3, 3);
+        graph.addEdge(5, 4, 3);
+        return graph;
+    }
+
+    @Test
+    public void testShortestPath() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.preprocess(createGraph());
+
+        assertEquals(7, hierarchy.size());
+        assertEquals(11, hierarchy.getDistance(0, 4));
+        assertEquals(List.of(4, 5, 1, 0), hierarchy.shortestPath(0, 4));
+        assertEquals(List.of(3, 2, 1, 0), hierarchy.shortestPath(0, 3));
+        assertEquals(List.of(2), hierarchy.shortestPath(2, 2));
+    }
+
+    @Test
+    public void testUnreachable() {
+        ContractionHierarchy hierarchy = ContractionHierarchy.preprocess(createGraph());
+
+        assertEquals(ContractionHierarchy.INFINITY, hierarchy.getDistance(3, 0));
+        assertTrue(hierarchy.shortestPath(3, 0).isEmpty());
+        assertTrue(hierarchy.shortestPath(0, 6).isEmpty());
+    }
+
+    @Test
+    public void testMatchesDijkstra() {
+        int size = 60;
+        Random random = new Random(42);
+        DirectedWeightedGraphAdjacencyMatrix<Integer> graph = new DirectedWeightedGraphAdjacencyMatrix<>(size);
+        DirectedLongWeightedGraphAdjacencyMatrix<Integer> reference = new DirectedLongWeightedGraphAdjacencyMatrix<>(size);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+            reference.addVertex(i);
+        }
+        for (int i = 0; i < size * 4; i++) {
+            int source = random.nextInt(size);
+            int target = random.nextInt(size);
+            if (source != target) {
+                int weight = 1 + random.nextInt(20);
+                graph.addEdge(source, target, weight);
+                reference.addEdge(source, target, weight);
+            }
+        }
+
+        ContractionHierarchy hierarchy = ContractionHierarchy.preprocess(graph);
+        for (int source = 0; source < size; source++) {
+            long[] expected = reference.calculateAllShortestPaths(source).getDistances();
+            for (int target = 0; target < size; target++) {
+                List<Integer> path = hierarchy.shortestPath(source, target);
+                if (expected[target] == Long.MAX_VALUE) {
+                    assertEquals(ContractionHierarchy.INFINITY, hierarchy.getDistance(source, target));
+                    assertTrue(path.isEmpty());
+                    continue;
+                }
+                assertEquals(expected[target], hierarchy.getDistance(source, target));
+                assertEquals(Integer.valueOf(target), path.get(0));
+                assertEquals(Integer.valueOf(source), path.get(path.size() - 1));
+                int length = 0;
+                for (int i = path.size() - 1; i > 0; i--) {
+                    length += graph.getWeightForEdge(path.get(i), path.get(i - 1));
+                }
+                assertEquals(expected[target], length);
+            }
+        }
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        ContractionHierarchy hierarchy = ContractionHierarchy.preprocess(createGraph());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(hierarchy);
+        }
+        ContractionHierarchy copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ContractionHierarchy) in.readObject();
+        }
+
+        assertEquals(hierarchy.getShortcutCount(), copy.getShortcutCount());
+        assertEquals(List.of(4, 5, 1, 0), copy.shortestPath(0, 4));
+    }
+}
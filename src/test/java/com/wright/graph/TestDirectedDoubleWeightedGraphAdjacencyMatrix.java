@@ -0,0 +1,100 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TestDirectedDoubleWeightedGraphAdjacencyMatrix {
+    @Test
+    public void testAddEdge() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Jersey City");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(2, 3, 9);
+
+        assertEquals(4, graph.getGraphSize());
+        assertEquals(2, graph.getWeightForEdge(0, 1), 0.0001);
+        assertEquals(9, graph.getWeightForEdge(2, 3), 0.0001);
+        assertEquals(Double.POSITIVE_INFINITY, graph.getWeightForEdge(1, 0), 0.0001);
+        assertEquals(Set.of(1), graph.getNeighbors(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithError() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 2, 45);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithNegativeWeight() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -0.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithReservedWeight() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testCalculateAllShortestPaths() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(7);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+        graph.addVertex("V5");
+        graph.addVertex("V6");
+
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 5, 9);
+        graph.addEdge(1, 5, 6);
+        graph.addEdge(1, 3, 15);
+        graph.addEdge(1, 2, 8);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 2, 7);
+        graph.addEdge(4, 3, 3);
+        graph.addEdge(5, 4, 3);
+
+        DirectedDoubleWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new double[]{0, 2, 10, 11, 11, 8, Double.POSITIVE_INFINITY}, helper.getDistances(), 0.0001);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 5, 1, Integer.MAX_VALUE}, helper.getPredecessors());
+
+        List<Integer> shortestPath = helper.getShortestPathToTarget(4);
+        assertEquals(List.of(4, 5, 1, 0), shortestPath);
+    }
+
+    @Test
+    public void testFractionalWeights() {
+        DirectedDoubleWeightedGraphAdjacencyMatrix<String> graph = new DirectedDoubleWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+
+        graph.addEdge(0, 1, 0.25);
+        graph.addEdge(1, 2, 0.5);
+        graph.addEdge(0, 2, 1);
+
+        DirectedDoubleWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new double[]{0, 0.25, 0.75}, helper.getDistances(), 0.0001);
+        assertEquals(List.of(2, 1, 0), helper.getShortestPathToTarget(2));
+    }
+}
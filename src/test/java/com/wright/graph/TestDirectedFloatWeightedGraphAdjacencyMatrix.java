@@ -0,0 +1,100 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TestDirectedFloatWeightedGraphAdjacencyMatrix {
+    @Test
+    public void testAddEdge() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Jersey City");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1, 2f);
+        graph.addEdge(2, 3, 9f);
+
+        assertEquals(4, graph.getGraphSize());
+        assertEquals(2, graph.getWeightForEdge(0, 1), 0.0001f);
+        assertEquals(9, graph.getWeightForEdge(2, 3), 0.0001f);
+        assertEquals(Float.POSITIVE_INFINITY, graph.getWeightForEdge(1, 0), 0.0001f);
+        assertEquals(Set.of(1), graph.getNeighbors(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithError() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 2, 45f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithNegativeWeight() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -0.5f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithReservedWeight() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, Float.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void testCalculateAllShortestPaths() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(7);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+        graph.addVertex("V5");
+        graph.addVertex("V6");
+
+        graph.addEdge(0, 1, 2f);
+        graph.addEdge(0, 5, 9f);
+        graph.addEdge(1, 5, 6f);
+        graph.addEdge(1, 3, 15f);
+        graph.addEdge(1, 2, 8f);
+        graph.addEdge(2, 3, 1f);
+        graph.addEdge(4, 2, 7f);
+        graph.addEdge(4, 3, 3f);
+        graph.addEdge(5, 4, 3f);
+
+        DirectedFloatWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new float[]{0, 2, 10, 11, 11, 8, Float.POSITIVE_INFINITY}, helper.getDistances(), 0.0001f);
+        assertArrayEquals(new int[]{0, 0, 1, 2, 5, 1, Integer.MAX_VALUE}, helper.getPredecessors());
+
+        List<Integer> shortestPath = helper.getShortestPathToTarget(4);
+        assertEquals(List.of(4, 5, 1, 0), shortestPath);
+    }
+
+    @Test
+    public void testFractionalWeights() {
+        DirectedFloatWeightedGraphAdjacencyMatrix<String> graph = new DirectedFloatWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+
+        graph.addEdge(0, 1, 0.25f);
+        graph.addEdge(1, 2, 0.5f);
+        graph.addEdge(0, 2, 1f);
+
+        DirectedFloatWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new float[]{0, 0.25f, 0.75f}, helper.getDistances(), 0.0001f);
+        assertEquals(List.of(2, 1, 0), helper.getShortestPathToTarget(2));
+    }
+}
@@ -0,0 +1,69 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestDirectedGraphAdjacencyList {
+    private static DirectedGraphAdjacencyList<String> createGraph() {
+        DirectedGraphAdjacencyList<String> graph = new DirectedGraphAdjacencyList<>(1);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 2);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 0);
+        return graph;
+    }
+
+    @Test
+    public void testGrowsPastExpectedVertices() {
+        DirectedGraphAdjacencyList<String> graph = createGraph();
+
+        assertEquals(5, graph.size());
+        assertEquals("Baltimore", graph.getVertex(4));
+        assertTrue(graph.hasEdge(0, 1));
+        assertFalse(graph.hasEdge(1, 0));
+    }
+
+    @Test
+    public void testNeighborsStaySorted() {
+        DirectedGraphAdjacencyList<String> graph = createGraph();
+        graph.addEdge(2, 4);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 3);
+
+        List<Integer> neighbors = new ArrayList<>();
+        graph.forEachNeighbor(2, neighbors::add);
+
+        assertEquals(List.of(0, 3, 4), neighbors);
+        assertEquals(3, graph.getDegree(2));
+    }
+
+    @Test
+    public void testTraversalsMatchMatrix() {
+        List<String> bfs = new ArrayList<>();
+        List<String> dfs = new ArrayList<>();
+        GraphTraversals.bfs(createGraph(), 0, bfs::add);
+        GraphTraversals.dfs(createGraph(), 0, dfs::add);
+
+        assertEquals(List.of("Boston", "Philadelphia", "Hartford", "Newark", "Baltimore"), bfs);
+        assertEquals(List.of("Boston", "Philadelphia", "Newark", "Baltimore", "Hartford"), dfs);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEdge() {
+        createGraph().addEdge(-1, 0);
+    }
+}
@@ -2,8 +2,11 @@ package com.wright.graph;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class TestDirectedGraphAdjacencyMatrix {
@@ -194,4 +197,135 @@ public class TestDirectedGraphAdjacencyMatrix {
         graph.bfs(2, System.out::println);
         graph.bfs(4, System.out::println);
     }
+
+    @Test
+    public void testReorder() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(5);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 3);
+        graph.addEdge(3, 1);
+        graph.addEdge(1, 4);
+        graph.addEdge(4, 2);
+
+        int[] mapping = graph.reorder(ReorderStrategy.BFS);
+        assertArrayEquals(new int[]{0, 2, 4, 1, 3}, mapping);
+
+        assertEquals("Boston", graph.getVertex(0));
+        assertEquals("Newark", graph.getVertex(1));
+        assertEquals("Philadelphia", graph.getVertex(2));
+        assertEquals("Baltimore", graph.getVertex(3));
+        assertEquals("Hartford", graph.getVertex(4));
+
+        assertEquals(Set.of(1), graph.getNeighborsForVertex(0));
+        assertEquals(Set.of(2), graph.getNeighborsForVertex(1));
+        assertEquals(Set.of(3), graph.getNeighborsForVertex(2));
+        assertEquals(Set.of(4), graph.getNeighborsForVertex(3));
+        assertEquals(Set.of(), graph.getNeighborsForVertex(4));
+    }
+
+    @Test
+    public void testBfsWithCycle() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 3);
+
+        List<String> visited = new ArrayList<>();
+        graph.bfs(0, visited::add);
+        assertEquals(List.of("Boston", "Philadelphia", "Hartford", "Newark"), visited);
+    }
+
+    @Test
+    public void testTraversalsWithWorkspace() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 3);
+        graph.addEdge(0, 2);
+        graph.addEdge(3, 0);
+
+        TraversalWorkspace workspace = new TraversalWorkspace(2);
+        List<String> dfs = new ArrayList<>();
+        graph.dfs(0, dfs::add, workspace);
+        List<String> bfs = new ArrayList<>();
+        graph.bfs(0, bfs::add, workspace);
+        List<String> fromNewark = new ArrayList<>();
+        graph.bfs(3, fromNewark::add, workspace);
+
+        assertEquals(List.of("Boston", "Philadelphia", "Newark", "Hartford"), dfs);
+        assertEquals(List.of("Boston", "Philadelphia", "Hartford", "Newark"), bfs);
+        assertEquals(List.of("Newark", "Boston", "Philadelphia", "Hartford"), fromNewark);
+    }
+
+    @Test
+    public void testKHop() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(6);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+        graph.addVertex("Palm Springs");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 5);
+
+        KHopNeighborhood neighborhood = graph.kHop(0, 2, 10);
+        assertEquals(3, neighborhood.getLevelCount());
+        assertArrayEquals(new int[]{0}, neighborhood.getLevel(0));
+        assertArrayEquals(new int[]{1, 2}, neighborhood.getLevel(1));
+        assertArrayEquals(new int[]{3}, neighborhood.getLevel(2));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, neighborhood.getVertices());
+
+        DirectedGraphAdjacencyMatrix<String> subgraph = graph.inducedSubgraph(neighborhood.getVertices());
+        assertEquals(4, subgraph.size());
+        assertEquals("Newark", subgraph.getVertex(3));
+        assertEquals(Set.of(1, 2), subgraph.getNeighborsForVertex(0));
+        assertEquals(Set.of(3), subgraph.getNeighborsForVertex(2));
+        assertEquals(Set.of(), subgraph.getNeighborsForVertex(3));
+    }
+
+    @Test
+    public void testKHopBounds() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(5);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(0, 3);
+        graph.addEdge(3, 4);
+
+        KHopNeighborhood capped = graph.kHop(0, 3, 3);
+        assertEquals(2, capped.getLevelCount());
+        assertArrayEquals(new int[]{1, 2}, capped.getLevel(1));
+
+        assertEquals(1, graph.kHop(0, 0, 10).size());
+        assertEquals(5, graph.kHop(0, 10, 10).size());
+        assertEquals(3, graph.kHop(0, 10, 10).getLevelCount());
+        assertEquals(1, graph.kHop(4, 2, 10).getLevelCount());
+    }
 }
@@ -0,0 +1,79 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestDirectedGraphBitSet {
+    private static DirectedGraphBitSet<String> createGraph() {
+        DirectedGraphBitSet<String> graph = new DirectedGraphBitSet<>(5);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 0);
+        return graph;
+    }
+
+    @Test
+    public void testEdges() {
+        DirectedGraphBitSet<String> graph = createGraph();
+
+        assertEquals(5, graph.size());
+        assertEquals("Hartford", graph.getVertex(2));
+        assertTrue(graph.hasEdge(0, 2));
+        assertFalse(graph.hasEdge(2, 0));
+        assertEquals(2, graph.getDegree(0));
+        assertEquals(1, graph.getDegree(4));
+    }
+
+    @Test
+    public void testBfsMatchesMatrix() {
+        List<String> visited = new ArrayList<>();
+        GraphTraversals.bfs(createGraph(), 0, visited::add);
+
+        assertEquals(List.of("Boston", "Philadelphia", "Hartford", "Newark", "Baltimore"), visited);
+    }
+
+    @Test
+    public void testNeighborsAcrossWords() {
+        DirectedGraphBitSet<Integer> graph = new DirectedGraphBitSet<>(200);
+        for (int vertex = 0; vertex < 200; vertex++) {
+            graph.addVertex(vertex);
+        }
+        graph.addEdge(0, 199);
+        graph.addEdge(0, 64);
+        graph.addEdge(0, 63);
+        graph.addEdge(0, 1);
+
+        List<Integer> neighbors = new ArrayList<>();
+        graph.forEachNeighbor(0, neighbors::add);
+
+        assertEquals(List.of(1, 63, 64, 199), neighbors);
+        assertEquals(4, graph.getDegree(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testGraphFull() {
+        DirectedGraphBitSet<String> graph = new DirectedGraphBitSet<>(1);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEdge() {
+        createGraph().addEdge(0, 5);
+    }
+}
@@ -0,0 +1,99 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TestDirectedLongWeightedGraphAdjacencyMatrix {
+    @Test
+    public void testAddEdge() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Jersey City");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1, 2L);
+        graph.addEdge(2, 3, 9L);
+
+        assertEquals(4, graph.getGraphSize());
+        assertEquals(2, graph.getWeightForEdge(0, 1));
+        assertEquals(9, graph.getWeightForEdge(2, 3));
+        assertEquals(Long.MAX_VALUE, graph.getWeightForEdge(1, 0));
+        assertEquals(Set.of(1), graph.getNeighbors(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithError() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 2, 45L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithNegativeWeight() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -1L);
+    }
+
+    @Test
+    public void testShortestPathsDoNotOverflow() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addEdge(0, 1, Long.MAX_VALUE - 1);
+        graph.addEdge(1, 2, 5);
+
+        long[] distances = graph.calculateAllShortestPaths(0).getDistances();
+
+        assertEquals(Long.MAX_VALUE - 1, distances[1]);
+        assertEquals(Long.MAX_VALUE, distances[2]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithReservedWeight() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testCalculateAllShortestPaths() {
+        DirectedLongWeightedGraphAdjacencyMatrix<String> graph = new DirectedLongWeightedGraphAdjacencyMatrix<>(7);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+        graph.addVertex("V5");
+        graph.addVertex("V6");
+
+        graph.addEdge(0, 1, 2L);
+        graph.addEdge(0, 5, 9L);
+        graph.addEdge(1, 5, 6L);
+        graph.addEdge(1, 3, 15L);
+        graph.addEdge(1, 2, 8L);
+        graph.addEdge(2, 3, 1L);
+        graph.addEdge(4, 2, 7L);
+        graph.addEdge(4, 3, 3L);
+        graph.addEdge(5, 4, 3L);
+
+        DirectedLongWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new long[]{0, 2, 10, 11, 11, 8, Long.MAX_VALUE}, helper.getDistances());
+        assertArrayEquals(new int[]{0, 0, 1, 2, 5, 1, Integer.MAX_VALUE}, helper.getPredecessors());
+
+        List<Integer> shortestPath = helper.getShortestPathToTarget(4);
+        assertEquals(List.of(4, 5, 1, 0), shortestPath);
+    }
+}
@@ -0,0 +1,102 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TestDirectedShortWeightedGraphAdjacencyMatrix {
+    @Test
+    public void testAddEdge() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Jersey City");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(2, 3, 9);
+
+        assertEquals(4, graph.getGraphSize());
+        assertEquals(2, graph.getWeightForEdge(0, 1));
+        assertEquals(9, graph.getWeightForEdge(2, 3));
+        assertEquals(Integer.MAX_VALUE, graph.getWeightForEdge(1, 0));
+        assertEquals(Set.of(1), graph.getNeighbors(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithError() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 2, 45);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithNegativeWeight() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithReservedWeight() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, 0xFFFF);
+    }
+
+    @Test
+    public void testWeightAboveSignedRange() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1, 40000);
+        graph.addEdge(1, 2, 0xFFFE);
+
+        assertEquals(40000, graph.getWeightForEdge(0, 1));
+        assertEquals(DirectedShortWeightedGraphAdjacencyMatrix.MAX_WEIGHT, graph.getWeightForEdge(1, 2));
+        assertEquals(Set.of(1), graph.getNeighbors(0));
+
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new int[]{0, 40000, 40000 + 0xFFFE}, helper.getDistances());
+    }
+
+    @Test
+    public void testCalculateAllShortestPaths() {
+        DirectedShortWeightedGraphAdjacencyMatrix<String> graph = new DirectedShortWeightedGraphAdjacencyMatrix<>(7);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+        graph.addVertex("V5");
+        graph.addVertex("V6");
+
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 5, 9);
+        graph.addEdge(1, 5, 6);
+        graph.addEdge(1, 3, 15);
+        graph.addEdge(1, 2, 8);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(4, 2, 7);
+        graph.addEdge(4, 3, 3);
+        graph.addEdge(5, 4, 3);
+
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new int[]{0, 2, 10, 11, 11, 8, Integer.MAX_VALUE}, helper.getDistances());
+        assertArrayEquals(new int[]{0, 0, 1, 2, 5, 1, Integer.MAX_VALUE}, helper.getPredecessors());
+
+        List<Integer> shortestPath = helper.getShortestPathToTarget(4);
+        assertEquals(List.of(4, 5, 1, 0), shortestPath);
+    }
+}
@@ -0,0 +1,98 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestDirectedWeightedGraphAdjacencyList {
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private static <G extends WeightedGraph<String>> G populate(G graph) {
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+        graph.addVertex("Palm Springs");
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 1, 2);
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(2, 3, 8);
+        graph.addEdge(3, 4, 3);
+        return graph;
+    }
+
+    @Test
+    public void testEdges() {
+        DirectedWeightedGraphAdjacencyList<String> graph = populate(new DirectedWeightedGraphAdjacencyList<>(2));
+
+        assertEquals(6, graph.size());
+        assertTrue(graph.hasEdge(2, 1));
+        assertFalse(graph.hasEdge(1, 2));
+        assertEquals(8, graph.getWeightForEdge(2, 3));
+        assertEquals(INFINITY, graph.getWeightForEdge(4, 3));
+
+        graph.addEdge(2, 3, 6);
+        assertEquals(6, graph.getWeightForEdge(2, 3));
+        assertEquals(2, graph.getDegree(2));
+    }
+
+    @Test
+    public void testForEachEdge() {
+        DirectedWeightedGraphAdjacencyList<String> graph = populate(new DirectedWeightedGraphAdjacencyList<>());
+        final List<Integer> edges = new ArrayList<>();
+        graph.forEachEdge(0, (target, weight) -> {
+            edges.add(target);
+            edges.add(weight);
+        });
+
+        assertEquals(List.of(1, 4, 2, 1), edges);
+    }
+
+    @Test
+    public void testShortestPathsMatchMatrix() {
+        DirectedWeightedGraphAdjacencyList<String> list = populate(new DirectedWeightedGraphAdjacencyList<>());
+        DirectedWeightedGraphAdjacencyMatrix<String> matrix = populate(new DirectedWeightedGraphAdjacencyMatrix<>(6));
+
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper fromList = list.calculateAllShortestPaths(0);
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper fromMatrix = matrix.calculateAllShortestPaths(0);
+
+        assertArrayEquals(fromMatrix.getDistances(), fromList.getDistances());
+        assertArrayEquals(fromMatrix.getPredecessors(), fromList.getPredecessors());
+        assertEquals(List.of(3, 1, 2, 0), fromList.getShortestPathToTarget(3));
+        assertEquals(INFINITY, fromList.getDistances()[5]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReservedWeightIsRejected() {
+        populate(new DirectedWeightedGraphAdjacencyList<String>()).addEdge(4, 5, INFINITY);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeightIsRejected() {
+        populate(new DirectedWeightedGraphAdjacencyList<String>()).addEdge(4, 5, -1);
+    }
+
+    @Test
+    public void testShortestPathsDoNotOverflow() {
+        DirectedWeightedGraphAdjacencyList<String> list = populate(new DirectedWeightedGraphAdjacencyList<>());
+        DirectedWeightedGraphAdjacencyMatrix<String> matrix = populate(new DirectedWeightedGraphAdjacencyMatrix<>(6));
+        list.addEdge(4, 5, INFINITY - 1);
+        matrix.addEdge(4, 5, INFINITY - 1);
+        list.addEdge(5, 0, 5);
+        matrix.addEdge(5, 0, 5);
+
+        assertEquals(INFINITY, list.calculateAllShortestPaths(3).getDistances()[5]);
+        assertEquals(INFINITY, matrix.calculateAllShortestPaths(3).getDistances()[5]);
+        assertEquals(INFINITY, list.calculateAllShortestPaths(4).getDistances()[0]);
+        assertEquals(INFINITY, matrix.calculateAllShortestPaths(4).getDistances()[0]);
+    }
+}
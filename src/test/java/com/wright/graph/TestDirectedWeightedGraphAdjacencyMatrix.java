@@ -78,6 +78,39 @@ public class TestDirectedWeightedGraphAdjacencyMatrix {
         graph.addEdge(0, 2, 45);
     }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithNegativeWeight() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(2);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddEdgeWithReservedWeight() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(2);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, Integer.MAX_VALUE);
+    }
+
+    @Test
+    public void testShortestPathNearInfinity() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+
+        graph.addEdge(0, 1, Integer.MAX_VALUE - 1);
+        graph.addEdge(1, 2, 1);
+
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertEquals(Integer.MAX_VALUE - 1, helper.getDistances()[1]);
+        assertEquals(Integer.MAX_VALUE, helper.getDistances()[2]);
+    }
+
     @Test
     public void testGetNeighbors() {
         DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(3);
@@ -419,4 +452,99 @@ public class TestDirectedWeightedGraphAdjacencyMatrix {
         assertTrue(processed3.contains("Baltimore"));
         assertTrue(processed3.contains("Palm Springs"));
     }
+
+    @Test
+    public void testReorder() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(5);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+
+        graph.addEdge(0, 3, 4);
+        graph.addEdge(3, 1, 1);
+        graph.addEdge(1, 4, 2);
+        graph.addEdge(4, 2, 7);
+
+        int[] mapping = graph.reorder(ReorderStrategy.REVERSE_CUTHILL_MCKEE);
+        assertArrayEquals(new int[]{4, 2, 0, 3, 1}, mapping);
+
+        assertEquals("V2", graph.getVertex(0));
+        assertEquals("V0", graph.getVertex(4));
+        assertEquals(4, graph.getWeightForEdge(mapping[0], mapping[3]));
+        assertEquals(1, graph.getWeightForEdge(mapping[3], mapping[1]));
+        assertEquals(2, graph.getWeightForEdge(mapping[1], mapping[4]));
+        assertEquals(7, graph.getWeightForEdge(mapping[4], mapping[2]));
+        assertEquals(Set.of(mapping[3]), graph.getNeighbors(mapping[0]));
+
+        int[] distances = graph.calculateAllShortestPaths(mapping[0]).getDistances();
+        assertEquals(14, distances[mapping[2]]);
+    }
+
+    @Test
+    public void testCalculateAllShortestPathsUnreachable() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+
+        DirectedWeightedGraphAdjacencyMatrix.ShortestPathHelper helper = graph.calculateAllShortestPaths(0);
+        assertArrayEquals(new int[]{0, 4, Integer.MAX_VALUE, Integer.MAX_VALUE}, helper.getDistances());
+    }
+
+    @Test
+    public void testTraversalsWithWorkspace() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(4);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 0, 4);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 2, 9);
+
+        TraversalWorkspace workspace = new TraversalWorkspace();
+        assertEquals(Set.of("V0", "V1", "V2"), graph.breadthFirstTraversal(0, workspace));
+        assertEquals(Set.of("V0", "V1", "V2"), graph.depthFirstTraversal(1, workspace));
+        assertEquals(Set.of("V3"), graph.breadthFirstTraversal(3, workspace));
+        assertArrayEquals(new int[]{0, 4, 5, Integer.MAX_VALUE},
+                graph.calculateAllShortestPaths(0, workspace).getDistances());
+    }
+
+    @Test
+    public void testKHop() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(5);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 9);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(3, 4, 2);
+
+        KHopNeighborhood neighborhood = graph.kHop(1, 2, 10);
+        assertArrayEquals(new int[]{1, 2, 0, 3}, neighborhood.getVertices());
+        assertArrayEquals(new int[]{0, 3}, neighborhood.getLevel(2));
+
+        DirectedWeightedGraphAdjacencyMatrix<String> subgraph = graph.inducedSubgraph(neighborhood.getVertices());
+        assertEquals(4, subgraph.getGraphSize());
+        assertEquals("V1", subgraph.getVertex(0));
+        assertEquals(1, subgraph.getWeightForEdge(0, 1));
+        assertEquals(9, subgraph.getWeightForEdge(1, 2));
+        assertEquals(4, subgraph.getWeightForEdge(2, 0));
+        assertEquals(Set.of(2, 3), subgraph.getNeighbors(1));
+        assertEquals(Set.of(), subgraph.getNeighbors(3));
+    }
 }
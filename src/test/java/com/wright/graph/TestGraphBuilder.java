@@ -0,0 +1,84 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestGraphBuilder {
+    @Test
+    public void testSmallGraphUsesMatrix() {
+        GraphBuilder<String> builder = new GraphBuilder<String>().expectedVertices(100).expectedEdges(10);
+
+        assertEquals(GraphBuilder.Backend.MATRIX, builder.getBackend());
+        assertTrue(builder.build() instanceof DirectedGraphAdjacencyMatrix);
+        assertTrue(builder.buildWeighted() instanceof DirectedWeightedGraphAdjacencyMatrix);
+    }
+
+    @Test
+    public void testLargeDenseGraphUsesBitSet() {
+        GraphBuilder<String> builder = new GraphBuilder<String>().expectedVertices(1000).expectedEdges(1000 * 1000 / 32);
+
+        assertEquals(GraphBuilder.Backend.BITSET, builder.getBackend());
+        assertTrue(builder.build() instanceof DirectedGraphBitSet);
+        assertEquals(GraphBuilder.Backend.SPARSE, builder.getWeightedBackend());
+        assertTrue(builder.buildWeighted() instanceof DirectedWeightedGraphAdjacencyList);
+    }
+
+    @Test
+    public void testLargeVeryDenseWeightedGraphUsesMatrix() {
+        GraphBuilder<String> builder = new GraphBuilder<String>().expectedVertices(1000).expectedEdges(1000 * 1000 / 4);
+
+        assertEquals(GraphBuilder.Backend.MATRIX, builder.getWeightedBackend());
+    }
+
+    @Test
+    public void testLargeSparseGraphUsesLists() {
+        GraphBuilder<String> builder = new GraphBuilder<String>().expectedVertices(100000).expectedEdges(500000);
+
+        assertEquals(GraphBuilder.Backend.SPARSE, builder.getBackend());
+        assertTrue(builder.build() instanceof DirectedGraphAdjacencyList);
+        assertTrue(builder.buildWeighted() instanceof DirectedWeightedGraphAdjacencyList);
+    }
+
+    @Test
+    public void testForcedBackend() {
+        GraphBuilder<String> builder = new GraphBuilder<String>().expectedVertices(10).backend(GraphBuilder.Backend.SPARSE);
+
+        assertTrue(builder.build() instanceof DirectedGraphAdjacencyList);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testExpectedVerticesIsRequired() {
+        new GraphBuilder<String>().build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightedBitSetIsRejected() {
+        new GraphBuilder<String>().expectedVertices(10).backend(GraphBuilder.Backend.BITSET).buildWeighted();
+    }
+
+    @Test
+    public void testAlgorithmsAgreeAcrossBackends() {
+        long[] expectedTriangles = null;
+        for (GraphBuilder.Backend backend : GraphBuilder.Backend.values()) {
+            Graph<Integer> graph = new GraphBuilder<Integer>().expectedVertices(8).backend(backend).build();
+            for (int vertex = 0; vertex < 8; vertex++) {
+                graph.addVertex(vertex);
+            }
+            for (int vertex = 0; vertex < 8; vertex++) {
+                graph.addEdge(vertex, (vertex + 1) % 8);
+                graph.addEdge(vertex, (vertex + 2) % 8);
+            }
+
+            long[] triangles = new NeighborIntersection(graph).triangleCounts();
+            if (expectedTriangles == null) {
+                expectedTriangles = triangles;
+            }
+            assertArrayEquals(expectedTriangles, triangles);
+            assertEquals(8, new MultiSourceBfs(graph).reachableCounts(3)[0]);
+            assertEquals(8, GraphTraversals.kHop(graph, 0, 4, 100).size());
+        }
+    }
+}
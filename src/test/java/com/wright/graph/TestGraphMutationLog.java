@@ -0,0 +1,250 @@
+package com.wright.graph;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestGraphMutationLog {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static GraphMutationLog<String, DirectedGraphAdjacencyList<String>> open(Path directory, long threshold)
+            throws IOException {
+        return GraphMutationLog.open(directory, GraphMutationLog.LabelCodec.strings(),
+                (vertices, edges) -> new DirectedGraphAdjacencyList<>(vertices), threshold);
+    }
+
+    private static void addCities(GraphMutationLog<String, ?> log) {
+        log.addVertex("Boston");
+        log.addVertex("Philadelphia");
+        log.addVertex("Hartford");
+        log.addEdge(0, 1);
+        log.addEdge(0, 2);
+        log.addEdge(2, 1);
+    }
+
+    private static void assertCities(Graph<String> graph) {
+        assertEquals(3, graph.size());
+        assertEquals("Boston", graph.getVertex(0));
+        assertEquals("Hartford", graph.getVertex(2));
+        assertTrue(graph.hasEdge(0, 1));
+        assertTrue(graph.hasEdge(0, 2));
+        assertTrue(graph.hasEdge(2, 1));
+        assertFalse(graph.hasEdge(1, 0));
+    }
+
+    @Test
+    public void testRecoverFromLog() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            addCities(log);
+        }
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            assertCities(log.getGraph());
+            assertEquals(3, log.addVertex("Newark"));
+        }
+    }
+
+    @Test
+    public void testCheckpointEmptiesLog() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            addCities(log);
+            long before = log.getLogSize();
+            log.checkpoint();
+            assertTrue(log.getLogSize() < before);
+
+            log.addVertex("Newark");
+            log.addEdge(3, 0);
+        }
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            Graph<String> graph = log.getGraph();
+            assertEquals(4, graph.size());
+            assertEquals("Newark", graph.getVertex(3));
+            assertTrue(graph.hasEdge(3, 0));
+            assertTrue(graph.hasEdge(2, 1));
+        }
+    }
+
+    @Test
+    public void testAutomaticCheckpoint() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, 64)) {
+            for (int vertex = 0; vertex < 50; vertex++) {
+                log.addVertex("V" + vertex);
+            }
+            assertTrue(log.getLogSize() < 64);
+        }
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, 64)) {
+            assertEquals(50, log.getGraph().size());
+            assertEquals("V49", log.getGraph().getVertex(49));
+        }
+    }
+
+    @Test
+    public void testTornFrameIsDropped() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            addCities(log);
+        }
+        Files.write(directory.resolve(GraphMutationLog.LOG_FILE), new byte[]{0, 0, 0, 40, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            assertCities(log.getGraph());
+            log.addEdge(1, 0);
+        }
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            assertTrue(log.getGraph().hasEdge(1, 0));
+        }
+    }
+
+    @Test
+    public void testLogFromBeforeCheckpointIsIgnored() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        Path logFile = directory.resolve(GraphMutationLog.LOG_FILE);
+        byte[] staleLog;
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            addCities(log);
+            staleLog = Files.readAllBytes(logFile);
+            log.checkpoint();
+        }
+        // As if the process died after the checkpoint rename but before the log was emptied
+        Files.write(logFile, staleLog);
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            assertCities(log.getGraph());
+        }
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        Path directory = folder.getRoot().toPath();
+        final int threads = 8;
+        final int edgesPerThread = 50;
+        try (final GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, 4096)) {
+            for (int vertex = 0; vertex <= edgesPerThread; vertex++) {
+                log.addVertex("V" + vertex);
+            }
+
+            List<Thread> writers = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                final int source = thread;
+                writers.add(new Thread(() -> {
+                    for (int target = 1; target <= edgesPerThread; target++) {
+                        log.addEdge(source, target);
+                    }
+                }));
+            }
+            for (Thread writer : writers) {
+                writer.start();
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, 4096)) {
+            Graph<String> graph = log.getGraph();
+            for (int source = 0; source < threads; source++) {
+                assertEquals(edgesPerThread, graph.getDegree(source));
+            }
+        }
+    }
+
+    @Test
+    public void testWeightedRecovery() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedWeightedGraphAdjacencyMatrix<String>> log = GraphMutationLog.open(
+                directory, GraphMutationLog.LabelCodec.strings(),
+                (vertices, edges) -> new DirectedWeightedGraphAdjacencyMatrix<>(vertices + 8))) {
+            log.addVertex("Boston");
+            log.addVertex("Philadelphia");
+            log.addEdge(0, 1, 7);
+            log.checkpoint();
+            log.addEdge(1, 0, 3);
+        }
+
+        try (GraphMutationLog<String, DirectedWeightedGraphAdjacencyMatrix<String>> log = GraphMutationLog.open(
+                directory, GraphMutationLog.LabelCodec.strings(),
+                (vertices, edges) -> new DirectedWeightedGraphAdjacencyMatrix<>(vertices + 8))) {
+            assertEquals(7, log.getGraph().getWeightForEdge(0, 1));
+            assertEquals(3, log.getGraph().getWeightForEdge(1, 0));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWeightedEdgeNeedsWeightedGraph() throws IOException {
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log =
+                     open(folder.getRoot().toPath(), Long.MAX_VALUE)) {
+            addCities(log);
+            log.addEdge(0, 1, 5);
+        }
+    }
+
+    @Test
+    public void testRecoverWithSmallReadBuffers() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedWeightedGraphAdjacencyList<String>> log = GraphMutationLog.open(
+                directory, GraphMutationLog.LabelCodec.strings(),
+                (vertices, edges) -> new DirectedWeightedGraphAdjacencyList<>(vertices), Long.MAX_VALUE)) {
+            for (int vertex = 0; vertex < 20; vertex++) {
+                log.addVertex("A label longer than the read buffer " + vertex);
+            }
+            for (int vertex = 0; vertex + 1 < 20; vertex++) {
+                log.addEdge(vertex, vertex + 1, vertex * 1000);
+            }
+            log.checkpoint();
+            for (int vertex = 20; vertex < 30; vertex++) {
+                log.addVertex("Logged after the checkpoint " + vertex);
+                log.addEdge(vertex, vertex - 1, vertex);
+            }
+        }
+
+        for (int bufferSize : new int[]{8, 9, 13, 64}) {
+            try (GraphMutationLog<String, DirectedWeightedGraphAdjacencyList<String>> log = GraphMutationLog.open(
+                    directory, GraphMutationLog.LabelCodec.strings(),
+                    (vertices, edges) -> new DirectedWeightedGraphAdjacencyList<>(vertices), Long.MAX_VALUE,
+                    bufferSize)) {
+                WeightedGraph<String> graph = log.getGraph();
+                assertEquals(30, graph.size());
+                assertEquals("A label longer than the read buffer 7", graph.getVertex(7));
+                assertEquals("Logged after the checkpoint 29", graph.getVertex(29));
+                assertEquals(18000, graph.getWeightForEdge(18, 19));
+                assertEquals(25, graph.getWeightForEdge(25, 24));
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testUnknownRecordTypeIsRejected() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        try (GraphMutationLog<String, DirectedGraphAdjacencyList<String>> log = open(directory, Long.MAX_VALUE)) {
+            addCities(log);
+        }
+        byte[] payload = new byte[]{9, 0, 0, 0, 0, 0, 0, 0, 1};
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+        frame.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        Files.write(directory.resolve(GraphMutationLog.LOG_FILE), frame.array(), StandardOpenOption.APPEND);
+
+        open(directory, Long.MAX_VALUE).close();
+    }
+}
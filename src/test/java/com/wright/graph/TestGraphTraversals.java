@@ -0,0 +1,145 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestGraphTraversals {
+    @Test
+    public void testDfsOnDeepChain() {
+        int size = 100000;
+        DirectedGraphAdjacencyList<Integer> graph = new DirectedGraphAdjacencyList<>(size);
+        for (int vertex = 0; vertex < size; vertex++) {
+            graph.addVertex(vertex);
+        }
+        for (int vertex = 0; vertex + 1 < size; vertex++) {
+            graph.addEdge(vertex, vertex + 1);
+        }
+
+        final int[] visited = new int[]{0};
+        GraphTraversals.dfs(graph, 0, vertex -> assertEquals(visited[0]++, vertex.intValue()));
+
+        assertEquals(size, visited[0]);
+    }
+
+    @Test
+    public void testDfsMatchesRecursiveOrder() {
+        DirectedGraphAdjacencyList<String> graph = new DirectedGraphAdjacencyList<>();
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addVertex("V3");
+        graph.addVertex("V4");
+
+        graph.addEdge(0, 3);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 3);
+        graph.addEdge(3, 2);
+        graph.addEdge(2, 1);
+        graph.addEdge(0, 4);
+
+        List<String> visited = new ArrayList<>();
+        GraphTraversals.dfs(graph, 0, visited::add);
+
+        assertEquals(List.of("V0", "V1", "V3", "V2", "V4"), visited);
+    }
+
+    @Test
+    public void testKHopStopsScanningAtBound() {
+        DirectedGraphAdjacencyList<Integer> star = new DirectedGraphAdjacencyList<>(1000);
+        for (int vertex = 0; vertex < 1000; vertex++) {
+            star.addVertex(vertex);
+        }
+        for (int vertex = 1; vertex < 1000; vertex++) {
+            star.addEdge(0, vertex);
+        }
+        CountingGraph graph = new CountingGraph(star);
+
+        KHopNeighborhood neighborhood = GraphTraversals.kHop(graph, 0, 1, 5);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, neighborhood.getVertices());
+        assertEquals(4, graph.scanned);
+    }
+
+    @Test
+    public void testKHopWithHugeHopLimit() {
+        DirectedGraphAdjacencyList<String> graph = new DirectedGraphAdjacencyList<>();
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+
+        KHopNeighborhood unbounded = GraphTraversals.kHop(graph, 0, Integer.MAX_VALUE, 10);
+        assertArrayEquals(new int[]{0, 1, 2}, unbounded.getVertices());
+        assertEquals(3, unbounded.getLevelCount());
+
+        KHopNeighborhood capped = GraphTraversals.kHop(graph, 0, 1_000_000_000, 2);
+        assertArrayEquals(new int[]{0, 1}, capped.getVertices());
+        assertEquals(2, capped.getLevelCount());
+    }
+
+    /**
+     * Counts the neighbors handed out, to check that traversals stop scanning early.
+     */
+    private static final class CountingGraph implements Graph<Integer> {
+        private final Graph<Integer> graph;
+        private int scanned = 0;
+
+        private CountingGraph(Graph<Integer> graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public int size() {
+            return graph.size();
+        }
+
+        @Override
+        public Integer getVertex(int vertex) {
+            return graph.getVertex(vertex);
+        }
+
+        @Override
+        public void addVertex(Integer data) {
+            graph.addVertex(data);
+        }
+
+        @Override
+        public void addEdge(int sourceVertex, int targetVertex) {
+            graph.addEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public boolean hasEdge(int sourceVertex, int targetVertex) {
+            return graph.hasEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public int getDegree(int vertex) {
+            return graph.getDegree(vertex);
+        }
+
+        @Override
+        public void forEachNeighbor(int vertex, IntConsumer consumer) {
+            graph.forEachNeighbor(vertex, neighbor -> {
+                scanned++;
+                consumer.accept(neighbor);
+            });
+        }
+
+        @Override
+        public boolean forEachNeighborWhile(int vertex, IntPredicate consumer) {
+            return graph.forEachNeighborWhile(vertex, neighbor -> {
+                scanned++;
+                return consumer.test(neighbor);
+            });
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestMultiSourceBfs {
+    private static DirectedGraphAdjacencyMatrix<String> createGraph() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(6);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+        graph.addVertex("Palm Springs");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        return graph;
+    }
+
+    @Test
+    public void testDistances() {
+        MultiSourceBfs bfs = new MultiSourceBfs(createGraph());
+
+        int[][] distances = bfs.distances(0, 3, 5);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, -1}, distances[0]);
+        assertArrayEquals(new int[]{-1, -1, -1, 0, 1, -1}, distances[1]);
+        assertArrayEquals(new int[]{-1, -1, -1, -1, -1, 0}, distances[2]);
+    }
+
+    @Test
+    public void testDistanceSums() {
+        MultiSourceBfs bfs = new MultiSourceBfs(createGraph());
+
+        assertArrayEquals(new long[]{10, 1, 0}, bfs.distanceSums(0, 3, 5));
+        assertArrayEquals(new int[]{5, 2, 1}, bfs.reachableCounts(0, 3, 5));
+    }
+
+    @Test
+    public void testMoreThanOneBatch() {
+        DirectedGraphAdjacencyMatrix<String> graph = createGraph();
+        MultiSourceBfs bfs = new MultiSourceBfs(graph);
+
+        int[] sources = new int[150];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = i % graph.size();
+        }
+
+        int[][] expected = bfs.distances(0, 1, 2, 3, 4, 5);
+        int[][] distances = bfs.distances(sources);
+        assertEquals(150, distances.length);
+        for (int i = 0; i < sources.length; i++) {
+            assertArrayEquals(expected[sources[i]], distances[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSource() {
+        new MultiSourceBfs(createGraph()).distances(6);
+    }
+}
@@ -0,0 +1,100 @@
+package com.wright.graph;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TestNeighborIntersection {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testSmallGraph() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(5);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addVertex("Newark");
+        graph.addVertex("Baltimore");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 0);
+        graph.addEdge(3, 3);
+
+        NeighborIntersection intersection = new NeighborIntersection(graph);
+        assertEquals(3, intersection.getDegree(0));
+        assertEquals(2, intersection.commonNeighborCount(0, 2));
+        assertEquals(2, intersection.commonNeighborCount(1, 3));
+        assertEquals(0, intersection.commonNeighborCount(0, 4));
+        assertEquals(2, intersection.triangleCount());
+        assertArrayEquals(new long[]{2, 1, 2, 1, 0}, intersection.triangleCounts());
+        assertEquals(2.0 / 3, intersection.clusteringCoefficient(0), 1e-9);
+        assertEquals(0, intersection.clusteringCoefficient(4), 1e-9);
+    }
+
+    @Test
+    public void testMatchesBruteForce() {
+        for (double density : new double[]{0.02, 0.2, 0.7}) {
+            int size = 200;
+            Random random = new Random(7);
+            DirectedGraphAdjacencyMatrix<Integer> graph = new DirectedGraphAdjacencyMatrix<>(size);
+            for (int i = 0; i < size; i++) {
+                graph.addVertex(i);
+            }
+            boolean[][] undirected = new boolean[size][size];
+            for (int source = 0; source < size; source++) {
+                for (int target = 0; target < size; target++) {
+                    if (source != target && random.nextDouble() < density / 2) {
+                        graph.addEdge(source, target);
+                        undirected[source][target] = true;
+                        undirected[target][source] = true;
+                    }
+                }
+            }
+
+            long[] expectedCounts = new long[size];
+            long expectedTotal = 0;
+            for (int a = 0; a < size; a++) {
+                for (int b = a + 1; b < size; b++) {
+                    for (int c = b + 1; c < size && undirected[a][b]; c++) {
+                        if (undirected[a][c] && undirected[b][c]) {
+                            expectedCounts[a]++;
+                            expectedCounts[b]++;
+                            expectedCounts[c]++;
+                            expectedTotal++;
+                        }
+                    }
+                }
+            }
+
+            NeighborIntersection intersection = new NeighborIntersection(graph, pool);
+            assertEquals(expectedTotal, intersection.triangleCount());
+            assertArrayEquals(expectedCounts, intersection.triangleCounts());
+
+            for (int u = 0; u < size; u += 7) {
+                for (int v = 0; v < size; v += 3) {
+                    int expected = 0;
+                    for (int w = 0; w < size; w++) {
+                        if (w != u && w != v && undirected[u][w] && undirected[v][w]) {
+                            expected++;
+                        }
+                    }
+                    assertEquals(expected, intersection.commonNeighborCount(u, v));
+                }
+            }
+        }
+    }
+}
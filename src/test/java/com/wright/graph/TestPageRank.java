@@ -0,0 +1,155 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class TestPageRank {
+    private static final double DELTA = 1e-6;
+
+    @Test
+    public void testCycle() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 0);
+
+        PageRank.Result result = new PageRank().compute(graph);
+        assertTrue(result.isConverged());
+        assertArrayEquals(new double[]{1.0 / 3, 1.0 / 3, 1.0 / 3}, result.getRanks(), DELTA);
+    }
+
+    @Test
+    public void testDanglingVertex() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(2);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1);
+
+        // Philadelphia is dangling, so r0 = 0.075 + 0.425 * r1 and r1 = 1 - r0
+        double[] ranks = new PageRank().compute(graph).getRanks();
+        assertEquals(0.5 / 1.425, ranks[0], DELTA);
+        assertEquals(1.0, ranks[0] + ranks[1], DELTA);
+        assertTrue(ranks[1] > ranks[0]);
+    }
+
+    @Test
+    public void testHub() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(5);
+        for (int i = 0; i < 5; i++) {
+            graph.addVertex("V" + i);
+        }
+        for (int i = 1; i < 5; i++) {
+            graph.addEdge(i, 0);
+            graph.addEdge(0, i);
+        }
+
+        double[] ranks = new PageRank().compute(graph).getRanks();
+        double sum = 0;
+        for (double rank : ranks) {
+            sum += rank;
+        }
+        assertEquals(1.0, sum, DELTA);
+        for (int i = 1; i < 5; i++) {
+            assertTrue(ranks[0] > ranks[i]);
+            assertEquals(ranks[1], ranks[i], DELTA);
+        }
+    }
+
+    @Test
+    public void testWeighted() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+
+        graph.addEdge(0, 1, 9);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 0, 1);
+
+        double[] ranks = new PageRank().compute(graph).getRanks();
+        assertEquals(1.0, ranks[0] + ranks[1] + ranks[2], DELTA);
+        assertTrue(ranks[1] > ranks[2]);
+    }
+
+    @Test
+    public void testIterationCap() {
+        DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+
+        graph.addEdge(0, 1);
+        graph.addEdge(0, 2);
+        graph.addEdge(1, 2);
+
+        PageRank.Result result = new PageRank(0.85, 0, 2).compute(graph);
+        assertFalse(result.isConverged());
+        assertEquals(2, result.getIterations());
+    }
+
+    @Test
+    public void testLargeGraphInParallel() {
+        int size = 5000;
+        DirectedGraphAdjacencyMatrix<Integer> graph = new DirectedGraphAdjacencyMatrix<>(size);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            graph.addEdge(i, (i + 1) % size);
+            graph.addEdge(i, (i * 7) % size);
+        }
+
+        ForkJoinPool parallelPool = new ForkJoinPool(4);
+        ForkJoinPool serialPool = new ForkJoinPool(1);
+        try {
+            PageRank.Result parallel = new PageRank(0.85, 1e-10, 200, parallelPool).compute(graph);
+            PageRank.Result serial = new PageRank(0.85, 1e-10, 200, serialPool).compute(graph);
+            assertArrayEquals(serial.getRanks(), parallel.getRanks(), 1e-12);
+        } finally {
+            parallelPool.shutdown();
+            serialPool.shutdown();
+        }
+    }
+
+    @Test
+    public void testZeroWeightOutEdgesAreDangling() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 0);
+
+        double[] ranks = new PageRank().compute(graph).getRanks();
+        double sum = 0;
+        for (double rank : ranks) {
+            assertFalse(Double.isNaN(rank));
+            sum += rank;
+        }
+        assertEquals(1.0, sum, DELTA);
+        assertTrue(ranks[2] > ranks[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeightIsRejected() {
+        DirectedWeightedGraphAdjacencyMatrix<String> graph = new DirectedWeightedGraphAdjacencyMatrix<>(2);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.addEdge(0, 1, -2);
+        graph.addEdge(1, 0, 3);
+
+        new PageRank().compute(graph);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+
+public class TestReorderStrategy {
+    private static final int[][] PATH = new int[][]{{3}, {4}, {}, {1}, {2}};
+
+    @Test
+    public void testReverseCuthillMcKee() {
+        assertArrayEquals(new int[]{2, 4, 1, 3, 0}, ReorderStrategy.REVERSE_CUTHILL_MCKEE.order(PATH));
+    }
+
+    @Test
+    public void testDegreeDescending() {
+        assertArrayEquals(new int[]{1, 3, 4, 0, 2}, ReorderStrategy.DEGREE_DESCENDING.order(PATH));
+    }
+
+    @Test
+    public void testBfs() {
+        assertArrayEquals(new int[]{0, 3, 1, 4, 2}, ReorderStrategy.BFS.order(PATH));
+    }
+
+    @Test
+    public void testBfsDisconnected() {
+        int[][] neighbors = new int[][]{{2}, {}, {}, {1}};
+        assertArrayEquals(new int[]{0, 2, 1, 3}, ReorderStrategy.BFS.order(neighbors));
+    }
+
+    @Test
+    public void testInvert() {
+        assertArrayEquals(new int[]{3, 0, 4, 1, 2}, ReorderStrategy.invert(new int[]{1, 3, 4, 0, 2}));
+    }
+}
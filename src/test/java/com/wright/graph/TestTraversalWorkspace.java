@@ -0,0 +1,63 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TestTraversalWorkspace {
+    @Test
+    public void testMarksResetBetweenTraversals() {
+        TraversalWorkspace workspace = new TraversalWorkspace(4);
+        workspace.begin(4);
+        assertTrue(workspace.mark(2));
+        assertFalse(workspace.mark(2));
+        assertTrue(workspace.isMarked(2));
+        assertFalse(workspace.isMarked(3));
+        workspace.end();
+
+        workspace.begin(4);
+        assertFalse(workspace.isMarked(2));
+        workspace.end();
+    }
+
+    @Test
+    public void testGrows() {
+        TraversalWorkspace workspace = new TraversalWorkspace(2);
+        workspace.begin(10);
+        assertTrue(workspace.getCapacity() >= 10);
+        assertTrue(workspace.queue().length >= 10);
+        assertTrue(workspace.mark(9));
+        workspace.end();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAlreadyInUse() {
+        TraversalWorkspace workspace = new TraversalWorkspace();
+        workspace.begin(4);
+        workspace.begin(4);
+    }
+
+    @Test
+    public void testForCurrentThread() {
+        TraversalWorkspace workspace = TraversalWorkspace.forCurrentThread();
+        assertSame(workspace, TraversalWorkspace.forCurrentThread());
+
+        workspace.begin(4);
+        assertNotSame(workspace, TraversalWorkspace.forCurrentThread());
+        workspace.end();
+    }
+
+    @Test
+    public void testNestedTraversals() {
+        final DirectedGraphAdjacencyMatrix<String> graph = new DirectedGraphAdjacencyMatrix<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addVertex("Hartford");
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+
+        final int[] visits = new int[]{0};
+        graph.bfs(0, outer -> graph.bfs(0, inner -> visits[0]++));
+        assertEquals(9, visits[0]);
+    }
+}
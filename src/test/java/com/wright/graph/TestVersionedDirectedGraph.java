@@ -0,0 +1,116 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class TestVersionedDirectedGraph {
+    @Test
+    public void testSnapshotIsolation() {
+        VersionedDirectedGraph<String> graph = new VersionedDirectedGraph<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+        graph.addEdge(0, 1);
+
+        DirectedGraphAdjacencyMatrix<String> before = graph.snapshot();
+        graph.addVertex("Hartford");
+        graph.addEdge(1, 2);
+        graph.addEdge(0, 2);
+        DirectedGraphAdjacencyMatrix<String> after = graph.snapshot();
+
+        assertEquals(2, before.size());
+        assertEquals(Set.of(1), before.getNeighborsForVertex(0));
+        assertEquals(Set.of(), before.getNeighborsForVertex(1));
+
+        assertEquals(3, after.size());
+        assertEquals("Hartford", after.getVertex(2));
+        assertEquals(Set.of(1, 2), after.getNeighborsForVertex(0));
+        assertEquals(Set.of(2), after.getNeighborsForVertex(1));
+        assertEquals(6, graph.getVersion());
+    }
+
+    @Test
+    public void testBatch() {
+        VersionedDirectedGraph<String> graph = new VersionedDirectedGraph<>(3);
+        graph.applyBatch(batch -> {
+            int boston = batch.addVertex("Boston");
+            int philadelphia = batch.addVertex("Philadelphia");
+            batch.addEdge(boston, philadelphia);
+            batch.addEdge(philadelphia, boston);
+        });
+
+        assertEquals(1, graph.getVersion());
+        assertEquals(Set.of(0), graph.snapshot().getNeighborsForVertex(1));
+    }
+
+    @Test
+    public void testFailedBatchIsNotPublished() {
+        VersionedDirectedGraph<String> graph = new VersionedDirectedGraph<>(3);
+        graph.addVertex("Boston");
+        try {
+            graph.applyBatch(batch -> {
+                batch.addVertex("Philadelphia");
+                batch.addEdge(0, 1);
+                batch.addEdge(0, 5);
+            });
+            fail("Expected the invalid edge to be rejected");
+        } catch (IllegalArgumentException expected) {
+            // the whole batch is discarded
+        }
+
+        assertEquals(1, graph.size());
+        assertEquals(Set.of(), graph.snapshot().getNeighborsForVertex(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotIsReadOnly() {
+        VersionedDirectedGraph<String> graph = new VersionedDirectedGraph<>(3);
+        graph.addVertex("Boston");
+        graph.addVertex("Philadelphia");
+
+        graph.snapshot().addEdge(0, 1);
+    }
+
+    @Test
+    public void testConcurrentReads() throws InterruptedException {
+        final int size = 200;
+        final VersionedDirectedGraph<Integer> graph = new VersionedDirectedGraph<>(size);
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(i);
+        }
+
+        final AtomicBoolean torn = new AtomicBoolean(false);
+        final AtomicBoolean done = new AtomicBoolean(false);
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                DirectedGraphAdjacencyMatrix<Integer> snapshot = graph.snapshot();
+                for (int i = 0; i < size; i++) {
+                    for (int j = 0; j < size; j++) {
+                        if (snapshot.hasEdge(i, j) != snapshot.hasEdge(j, i)) {
+                            torn.set(true);
+                        }
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j += 7) {
+                final int source = i;
+                final int target = j;
+                graph.applyBatch(batch -> {
+                    batch.addEdge(source, target);
+                    batch.addEdge(target, source);
+                });
+            }
+        }
+        done.set(true);
+        reader.join();
+
+        assertFalse(torn.get());
+    }
+}
@@ -0,0 +1,52 @@
+package com.wright.graph;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class TestVersionedDirectedWeightedGraph {
+    @Test
+    public void testSnapshotIsolation() {
+        VersionedDirectedWeightedGraph<String> graph = new VersionedDirectedWeightedGraph<>(3);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addVertex("V2");
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(1, 2, 5);
+
+        DirectedWeightedGraphAdjacencyMatrix<String> before = graph.snapshot();
+        graph.addEdge(0, 2, 3);
+        graph.addEdge(0, 1, 1);
+        DirectedWeightedGraphAdjacencyMatrix<String> after = graph.snapshot();
+
+        assertArrayEquals(new int[]{0, 5, 10}, before.calculateAllShortestPaths(0).getDistances());
+        assertEquals(Set.of(1), before.getNeighbors(0));
+        assertEquals(5, before.getWeightForEdge(0, 1));
+
+        assertArrayEquals(new int[]{0, 1, 3}, after.calculateAllShortestPaths(0).getDistances());
+        assertEquals(List.of(2, 0), after.calculateAllShortestPaths(0).getShortestPathToTarget(2));
+    }
+
+    @Test
+    public void testUnchangedEdgeKeepsVersion() {
+        VersionedDirectedWeightedGraph<String> graph = new VersionedDirectedWeightedGraph<>(2);
+        graph.addVertex("V0");
+        graph.addVertex("V1");
+        graph.addEdge(0, 1, 5);
+        long version = graph.getVersion();
+
+        graph.addEdge(0, 1, 5);
+        assertEquals(version, graph.getVersion());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSnapshotIsReadOnly() {
+        VersionedDirectedWeightedGraph<String> graph = new VersionedDirectedWeightedGraph<>(2);
+        graph.addVertex("V0");
+
+        graph.snapshot().addVertex("V1");
+    }
+}